@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Error message template collected by an aggregating {@link Errors} instance together with its number of
+ * occurrences and the parameters of the first occurrences; Thread-safe.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Errors#aggregating(int)
+ */
+public final class AggregatedError {
+    private static final String PLACEHOLDER = "{}";
+    private final String template;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicInteger sampled = new AtomicInteger();
+    private final AtomicReferenceArray<Object[]> samples;
+
+    AggregatedError(final String template, final int sampleSize) {
+        this.template = template;
+        this.samples = new AtomicReferenceArray<>(sampleSize);
+    }
+
+    /**
+     * Stores the sample before counting the occurrence, so a reader seeing a count also sees its sample once the
+     * recording threads are done.
+     */
+    void record(final Object[] params) {
+        if (sampled.get() < samples.length()) {
+            int index = sampled.getAndIncrement();
+            if (index < samples.length()) {
+                samples.set(index, params);
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * @return message template shared by all occurrences
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return number of occurrences
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return parameters of the first occurrences, at most as many as the sample size
+     */
+    public List<List<Object>> getSamples() {
+        List<List<Object>> list = new ArrayList<>(samples.length());
+        for (int i = 0; i < samples.length(); i++) {
+            Object[] params = samples.get(i);
+            if (params != null) {
+                list.add(Collections.unmodifiableList(Arrays.asList(params)));
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return message of the first sampled occurrence, or the template with its placeholders removed if no
+     *         parameters have been sampled
+     */
+    public String getMessage() {
+        return MessageFormatter.arrayFormat(template, messageParams()).getMessage();
+    }
+
+    private Object[] messageParams() {
+        for (int i = 0; i < samples.length(); i++) {
+            Object[] params = samples.get(i);
+            if (params != null) {
+                return params;
+            }
+        }
+        Object[] blanks = new Object[StringUtils.countMatches(template, PLACEHOLDER)];
+        Arrays.fill(blanks, StringUtils.EMPTY);
+        return blanks;
+    }
+
+    /**
+     * @return message of the first occurrence followed by the number of occurrences if greater than one
+     */
+    public String getSummary() {
+        long n = count.get();
+        if (n > 1) {
+            return getMessage() + " (" + n + " occurrences)";
+        }
+        return getMessage();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("template", template)
+                                        .append("count", count.get())
+                                        .build();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holder of the default executor used by {@link Errors#isTrueAsync(java.util.function.BooleanSupplier, String,
+ * Object...)}; initialized on first use.
+ * <p>
+ * Uses a virtual thread per task executor when running on Java 21 or later and a cached pool of daemon threads
+ * otherwise, as asynchronous checks are expected to block on I/O.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class AsyncChecks {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncChecks.class);
+    static final Executor DEFAULT_EXECUTOR = createExecutor();
+
+    private AsyncChecks() {
+    }
+
+    private static Executor createExecutor() {
+        try {
+            Executor executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            logger.debug("Using virtual threads for asynchronous checks");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            logger.debug("Virtual threads not available, using cached thread pool for asynchronous checks");
+            return Executors.newCachedThreadPool(new DaemonThreadFactory());
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "errors-async-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
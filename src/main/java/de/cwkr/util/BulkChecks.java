@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk element checks over collections and object arrays used by {@link Errors}.
+ * <p>
+ * Each input is scanned in a single pass collecting the indices of failing elements. Parallel scans split arrays into
+ * chunks processed by the common fork-join pool; collections are copied to an array first, as iterators cannot be
+ * split by index.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see RangeChecks
+ */
+final class BulkChecks {
+    private static final int MIN_CAPACITY = 8;
+
+    private BulkChecks() {
+    }
+
+    static <T> int[] failing(final Collection<? extends T> values, final Predicate<? super T> passes,
+                             final boolean parallel) {
+        if (parallel && values.size() > RangeChecks.CHUNK_SIZE) {
+            @SuppressWarnings("unchecked")
+            T[] array = (T[]) values.toArray();
+            return failing(array, passes, true);
+        }
+        int[] indices = RangeChecks.NONE;
+        int n = 0;
+        int i = 0;
+        for (T value : values) {
+            if (!passes.test(value)) {
+                if (n == indices.length) {
+                    indices = Arrays.copyOf(indices, Math.max(MIN_CAPACITY, n * 2));
+                }
+                indices[n++] = i;
+            }
+            i++;
+        }
+        return n == indices.length ? indices : Arrays.copyOf(indices, n);
+    }
+
+    static <T> int[] failing(final T[] values, final Predicate<? super T> passes, final boolean parallel) {
+        if (!parallel || values.length <= RangeChecks.CHUNK_SIZE) {
+            return failing(values, 0, values.length, passes);
+        }
+        return RangeChecks.concat(IntStream.range(0, RangeChecks.chunks(values.length))
+                                           .parallel()
+                                           .mapToObj(c -> failing(values, c * RangeChecks.CHUNK_SIZE,
+                                                                  RangeChecks.end(c, values.length), passes))
+                                           .toArray(int[][]::new));
+    }
+
+    private static <T> int[] failing(final T[] values, final int from, final int to,
+                                     final Predicate<? super T> passes) {
+        int[] indices = RangeChecks.NONE;
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            if (!passes.test(values[i])) {
+                if (n == indices.length) {
+                    indices = Arrays.copyOf(indices, Math.max(MIN_CAPACITY, n * 2));
+                }
+                indices[n++] = i;
+            }
+        }
+        return n == indices.length ? indices : Arrays.copyOf(indices, n);
+    }
+}
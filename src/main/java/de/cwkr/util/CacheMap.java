@@ -0,0 +1,852 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Bounded {@link ConcurrentMap} evicting entries by size or weight, optionally expiring them a fixed time after they
+ * were written; Thread-safe. {@code null} keys and values are not permitted.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}. Reads do not lock: a hit is recorded in a striped, lossy ring
+ * buffer which is replayed into the eviction policy by whichever thread manages to take the policy lock once a
+ * stripe is full. Writes update the map and then apply their change to the policy under that lock, evicting entries
+ * as needed. Two policies are available:
+ * <ul>
+ * <li>{@link Eviction#LRU} evicts the least recently used entry.</li>
+ * <li>{@link Eviction#TINY_LFU} admits new entries through a small LRU window into a segmented LRU main space, where
+ * a {@link FrequencySketch} decides whether the entry leaving the window or the main space victim is evicted. This
+ * keeps frequently used entries through scans and bursts of one-off keys.</li>
+ * </ul>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Maps#cacheMap(long)
+ * @see Maps#cacheMapBuilder()
+ */
+@SuppressWarnings("PMD.CyclomaticComplexity") // map operations and the eviction policy they drive
+public final class CacheMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    private static final int READ_BUFFER_STRIPES = 16;
+    private static final int READ_BUFFER_SIZE = 32;
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+    private static final int PERCENT = 100;
+    private static final long INITIAL_SKETCH_CAPACITY = 1024;
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Eviction eviction;
+    private final long maximum;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    // guarded by evictionLock
+    private final AccessDeque<K, V> window = new AccessDeque<>();
+    private final AccessDeque<K, V> probation = new AccessDeque<>();
+    private final AccessDeque<K, V> protectedSpace = new AccessDeque<>();
+    private final WriteDeque<K, V> writeOrder = new WriteDeque<>();
+    private final FrequencySketch sketch;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long weightedSize;
+
+    private CacheMap(final Builder<K, V> builder) {
+        this.eviction = builder.eviction;
+        this.maximum = builder.maximumSize >= 0 ? builder.maximumSize : builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.ticker = builder.ticker;
+        this.windowMaximum = eviction == Eviction.TINY_LFU ? Math.max(1, percentOf(maximum, WINDOW_PERCENT)) : 0;
+        this.protectedMaximum = percentOf(maximum - windowMaximum, PROTECTED_PERCENT);
+        this.sketch = eviction == Eviction.TINY_LFU
+                      ? new FrequencySketch(Math.min(maximum, INITIAL_SKETCH_CAPACITY))
+                      : null;
+        for (int i = 0; i < READ_BUFFER_STRIPES; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        V value = node.value;
+        if (isExpired(node)) {
+            misses.increment();
+            expire(node);
+            return null;
+        }
+        hits.increment();
+        recordRead(node);
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Node<K, V> node = data.get(key);
+        return node != null && !isExpired(node);
+    }
+
+    /**
+     * @return number of entries, possibly including expired entries not yet removed
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return write(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return write(key, value, true);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        int weight = weigh(key, value);
+        Object[] previous = new Object[1];
+        Object[] updated = new Object[1];
+        data.computeIfPresent(key, (k, n) -> {
+            if (isExpired(n)) {
+                return n;
+            }
+            previous[0] = n.value;
+            n.update(value, weight, now());
+            updated[0] = n;
+            return n;
+        });
+        if (updated[0] != null) {
+            Node<K, V> node = cast(updated[0]);
+            afterWrite(() -> onUpdate(node));
+        }
+        return cast(previous[0]);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue, "oldValue must not be null");
+        Objects.requireNonNull(newValue, "newValue must not be null");
+        int weight = weigh(key, newValue);
+        boolean[] replaced = new boolean[1];
+        Node<K, V> node = data.computeIfPresent(key, (k, n) -> {
+            if (!isExpired(n) && oldValue.equals(n.value)) {
+                n.update(newValue, weight, now());
+                replaced[0] = true;
+            }
+            return n;
+        });
+        if (replaced[0]) {
+            afterWrite(() -> onUpdate(node));
+        }
+        return replaced[0];
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        V value = node.value;
+        if (isExpired(node)) {
+            expire(node);
+            return null;
+        }
+        if (removeNode(node, false)) {
+            afterWrite(() -> onRemove(node));
+            return value;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Node<K, V> node = data.get(key);
+        if (node == null || value == null || isExpired(node) || !value.equals(node.value)
+            || !removeNode(node, false)) {
+            return false;
+        }
+        afterWrite(() -> onRemove(node));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (Node<K, V> node : data.values()) {
+            if (removeNode(node, false)) {
+                afterWrite(() -> onRemove(node));
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return data.size();
+            }
+
+            @Override
+            public void clear() {
+                CacheMap.this.clear();
+            }
+        };
+    }
+
+    /**
+     * @return eviction policy
+     */
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    /**
+     * @return maximum number of entries, or maximum total weight if entries are weighed
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * @return number of entries, or their total weight if entries are weighed, as seen by the eviction policy
+     */
+    public long getWeightedSize() {
+        evictionLock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of lookups that found a live entry
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups that found no entry or an expired one
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of entries evicted to stay within the maximum or because they expired
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Performs pending maintenance: replays buffered reads, removes expired entries and evicts entries beyond the
+     * maximum. This happens during writes anyway; calling it is only useful for caches that are rarely written.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("size", data.size())
+                                        .append("maximum", maximum)
+                                        .append("eviction", eviction)
+                                        .append("hits", hits.sum())
+                                        .append("misses", misses.sum())
+                                        .append("evictions", evictions.sum())
+                                        .build();
+    }
+
+    private V write(final K key, final V value, final boolean onlyIfAbsent) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        int weight = weigh(key, value);
+        long now = now();
+        Object[] previous = new Object[1];
+        Object[] expired = new Object[1];
+        boolean[] added = new boolean[1];
+        Node<K, V> node = data.compute(key, (k, n) -> {
+            if (n == null || isExpired(n)) {
+                if (n != null) {
+                    n.alive = false;
+                    expired[0] = n;
+                }
+                added[0] = true;
+                return new Node<>(k, value, weight, now);
+            }
+            previous[0] = n.value;
+            if (!onlyIfAbsent) {
+                n.update(value, weight, now);
+            }
+            return n;
+        });
+        if (expired[0] != null) {
+            evictions.increment();
+            Node<K, V> expiredNode = cast(expired[0]);
+            afterWrite(() -> onRemove(expiredNode));
+        }
+        if (added[0]) {
+            afterWrite(() -> onAdd(node));
+        } else if (!onlyIfAbsent) {
+            afterWrite(() -> onUpdate(node));
+        }
+        return cast(previous[0]);
+    }
+
+    /**
+     * Removes the node from the map if it is still mapped; the caller removes it from the policy.
+     *
+     * @param onlyIfExpired {@code true} to keep the node if it has been written again meanwhile
+     * @return {@code true} if this call removed the node from the map
+     */
+    private boolean removeNode(final Node<K, V> node, final boolean onlyIfExpired) {
+        boolean[] removed = new boolean[1];
+        data.computeIfPresent(node.key, (k, n) -> {
+            if (!n.equals(node) || onlyIfExpired && !isExpired(n)) {
+                return n;
+            }
+            n.alive = false;
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private void expire(final Node<K, V> node) {
+        if (removeNode(node, true)) {
+            evictions.increment();
+            afterWrite(() -> onRemove(node));
+        }
+    }
+
+    private int weigh(final K key, final V value) {
+        if (weigher == null) {
+            return 1;
+        }
+        int weight = weigher.applyAsInt(key, value);
+        Validate.isTrue(weight >= 0, "weight must not be negative");
+        return weight;
+    }
+
+    private long now() {
+        return expireAfterWriteNanos > 0 ? ticker.getAsLong() : 0;
+    }
+
+    private boolean isExpired(final Node<K, V> node) {
+        return expireAfterWriteNanos > 0 && ticker.getAsLong() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void recordRead(final Node<K, V> node) {
+        ReadBuffer buffer = readBuffers[(int) Thread.currentThread().getId() & (READ_BUFFER_STRIPES - 1)];
+        if (buffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(final Runnable task) {
+        evictionLock.lock();
+        try {
+            task.run();
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // all following methods are guarded by evictionLock
+
+    private void maintenance() {
+        for (ReadBuffer buffer : readBuffers) {
+            buffer.drain(this);
+        }
+        if (expireAfterWriteNanos > 0) {
+            Node<K, V> node = writeOrder.first;
+            while (node != null && isExpired(node)) {
+                Node<K, V> next = node.writeNext;
+                if (removeNode(node, true)) {
+                    evictions.increment();
+                    onRemove(node);
+                } else if (!node.alive) {
+                    onRemove(node);
+                }
+                node = next;
+            }
+        }
+        evict();
+    }
+
+    private void evict() {
+        if (eviction == Eviction.LRU) {
+            while (weightedSize > maximum && window.first != null) {
+                evictNode(window.first);
+            }
+            return;
+        }
+        while (windowWeight() > windowMaximum && window.first != null) {
+            Node<K, V> node = window.first;
+            window.unlink(node);
+            node.queue = Node.PROBATION;
+            probation.addLast(node);
+        }
+        while (weightedSize > maximum) {
+            Node<K, V> victim = probation.first;
+            Node<K, V> candidate = probation.last;
+            if (victim == null) {
+                victim = protectedSpace.first != null ? protectedSpace.first : window.first;
+                if (victim == null) {
+                    return;
+                }
+            } else if (!victim.equals(candidate)
+                && sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                victim = candidate;
+            }
+            evictNode(victim);
+        }
+    }
+
+    private void evictNode(final Node<K, V> node) {
+        if (removeNode(node, false)) {
+            evictions.increment();
+        }
+        onRemove(node);
+    }
+
+    private long windowWeight() {
+        return window.weight;
+    }
+
+    private AccessDeque<K, V> dequeOf(final Node<K, V> node) {
+        switch (node.queue) {
+            case Node.PROBATION:
+                return probation;
+            case Node.PROTECTED:
+                return protectedSpace;
+            default:
+                return window;
+        }
+    }
+
+    private void onAdd(final Node<K, V> node) {
+        if (!node.alive || node.queue != Node.NONE) {
+            return;
+        }
+        node.policyWeight = node.weight;
+        weightedSize += node.policyWeight;
+        node.queue = Node.WINDOW;
+        window.addLast(node);
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.addLast(node);
+        }
+        if (sketch != null) {
+            if (data.size() > sketch.capacity()) {
+                sketch.ensureCapacity(data.size());
+            }
+            sketch.increment(node.hash);
+        }
+    }
+
+    private void onUpdate(final Node<K, V> node) {
+        if (node.queue == Node.NONE) {
+            return;
+        }
+        int delta = node.weight - node.policyWeight;
+        node.policyWeight = node.weight;
+        weightedSize += delta;
+        dequeOf(node).weight += delta;
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.unlink(node);
+            writeOrder.addLast(node);
+        }
+        onAccess(node);
+    }
+
+    void onAccess(final Node<K, V> node) {
+        if (node.queue == Node.NONE) {
+            return;
+        }
+        if (sketch != null) {
+            sketch.increment(node.hash);
+        }
+        AccessDeque<K, V> deque = dequeOf(node);
+        deque.unlink(node);
+        if (node.queue == Node.PROBATION) {
+            node.queue = Node.PROTECTED;
+            protectedSpace.addLast(node);
+            while (protectedSpace.weight > protectedMaximum && protectedSpace.first != null) {
+                Node<K, V> demoted = protectedSpace.first;
+                protectedSpace.unlink(demoted);
+                demoted.queue = Node.PROBATION;
+                probation.addLast(demoted);
+            }
+        } else {
+            deque.addLast(node);
+        }
+    }
+
+    private void onRemove(final Node<K, V> node) {
+        if (node.queue == Node.NONE) {
+            return;
+        }
+        dequeOf(node).unlink(node);
+        weightedSize -= node.policyWeight;
+        node.queue = Node.NONE;
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.unlink(node);
+        }
+    }
+
+    /**
+     * Computes a percentage of a non-negative value without overflowing, even for {@link Long#MAX_VALUE}.
+     */
+    private static long percentOf(final long value, final int percent) {
+        return value / PERCENT * percent + value % PERCENT * percent / PERCENT;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object o) {
+        return (T) o;
+    }
+
+    /**
+     * Eviction policy of a {@link CacheMap}.
+     */
+    public enum Eviction {
+        /**
+         * Evicts the least recently used entry.
+         */
+        LRU,
+        /**
+         * Evicts entries by estimated frequency and recency using the W-TinyLFU admission policy.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * Builder of {@link CacheMap} instances; exactly one of maximum size and maximum weight must be set.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    public static final class Builder<K, V> {
+        private long maximumSize = -1;
+        private long maximumWeight = -1;
+        private ToIntBiFunction<? super K, ? super V> weigher;
+        private Eviction eviction = Eviction.LRU;
+        private long expireAfterWriteNanos;
+        private LongSupplier ticker = System::nanoTime;
+
+        Builder() {
+        }
+
+        /**
+         * @param maximumSize maximum number of entries
+         * @return this builder
+         * @throws IllegalArgumentException if maximumSize is negative
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            Validate.isTrue(maximumSize >= 0, "maximumSize must not be negative");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param maximumWeight maximum total weight of all entries
+         * @param weigher function computing the non-negative weight of an entry when it is written
+         * @return this builder
+         * @throws IllegalArgumentException if maximumWeight is negative
+         * @throws NullPointerException if weigher is {@code null}
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+            Validate.isTrue(maximumWeight >= 0, "maximumWeight must not be negative");
+            this.maximumWeight = maximumWeight;
+            this.weigher = Objects.requireNonNull(weigher, "weigher must not be null");
+            return this;
+        }
+
+        /**
+         * @param eviction eviction policy, {@link Eviction#LRU} by default
+         * @return this builder
+         * @throws NullPointerException if eviction is {@code null}
+         */
+        public Builder<K, V> eviction(Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction, "eviction must not be null");
+            return this;
+        }
+
+        /**
+         * @param duration time after which an entry expires once it has been created or its value replaced
+         * @return this builder
+         * @throws IllegalArgumentException if duration is not positive
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            Validate.isTrue(!duration.isNegative() && !duration.isZero(), "duration must be positive");
+            this.expireAfterWriteNanos = duration.toNanos();
+            return this;
+        }
+
+        Builder<K, V> ticker(final LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * @return new cache map
+         * @throws IllegalStateException if neither or both of maximum size and maximum weight are set
+         */
+        public CacheMap<K, V> build() {
+            Validate.validState(maximumSize >= 0 ^ maximumWeight >= 0,
+                                "exactly one of maximumSize and maximumWeight must be set");
+            return new CacheMap<>(this);
+        }
+    }
+
+    private static final class Node<K, V> {
+        static final int NONE = 0;
+        static final int WINDOW = 1;
+        static final int PROBATION = 2;
+        static final int PROTECTED = 3;
+        final K key;
+        final int hash;
+        volatile V value;
+        volatile int weight;
+        volatile long writeTime;
+        volatile boolean alive = true;
+        // guarded by evictionLock
+        int queue;
+        int policyWeight;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Node<K, V> writePrev;
+        Node<K, V> writeNext;
+
+        Node(final K key, final V value, final int weight, final long writeTime) {
+            this.key = key;
+            this.hash = key.hashCode();
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+
+        void update(final V value, final int weight, final long writeTime) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+    }
+
+    /**
+     * Access-ordered doubly linked list of nodes tracking their total weight.
+     */
+    private static final class AccessDeque<K, V> {
+        Node<K, V> first;
+        Node<K, V> last;
+        long weight;
+
+        void addLast(final Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            weight += node.policyWeight;
+        }
+
+        void unlink(final Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            weight -= node.policyWeight;
+        }
+    }
+
+    /**
+     * Write-ordered doubly linked list of nodes, oldest first, used for expiration.
+     */
+    private static final class WriteDeque<K, V> {
+        Node<K, V> first;
+        Node<K, V> last;
+
+        void addLast(final Node<K, V> node) {
+            node.writePrev = last;
+            node.writeNext = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.writeNext = node;
+            }
+            last = node;
+        }
+
+        void unlink(final Node<K, V> node) {
+            if (node.writePrev == null) {
+                first = node.writeNext;
+            } else {
+                node.writePrev.writeNext = node.writeNext;
+            }
+            if (node.writeNext == null) {
+                last = node.writePrev;
+            } else {
+                node.writeNext.writePrev = node.writePrev;
+            }
+            node.writePrev = null;
+            node.writeNext = null;
+        }
+    }
+
+    /**
+     * Lossy buffer of recent reads; offers are dropped while the buffer is full.
+     */
+    private static final class ReadBuffer {
+        private final AtomicReferenceArray<Node<?, ?>> nodes = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicInteger count = new AtomicInteger();
+
+        /**
+         * @return {@code true} if the buffer is full and should be drained
+         */
+        boolean offer(final Node<?, ?> node) {
+            int i = count.getAndIncrement();
+            if (i < READ_BUFFER_SIZE) {
+                nodes.lazySet(i, node);
+                return i == READ_BUFFER_SIZE - 1;
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        <K, V> void drain(final CacheMap<K, V> cache) {
+            int n = Math.min(count.get(), READ_BUFFER_SIZE);
+            for (int i = 0; i < n; i++) {
+                Node<K, V> node = (Node<K, V>) nodes.getAndSet(i, null);
+                if (node != null) {
+                    cache.onAccess(node);
+                }
+            }
+            count.set(0);
+        }
+    }
+
+    /**
+     * Weakly consistent iterator over the live entries of the map.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final Iterator<Node<K, V>> nodes = data.values().iterator();
+        private Node<K, V> nextNode;
+        private V nextValue;
+        private K lastKey;
+
+        private EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (nodes.hasNext()) {
+                Node<K, V> node = nodes.next();
+                if (!isExpired(node)) {
+                    nextNode = node;
+                    nextValue = node.value;
+                    return;
+                }
+            }
+            nextNode = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = new SimpleImmutableEntry<>(nextNode.key, nextValue);
+            lastKey = nextNode.key;
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            Validate.validState(lastKey != null, "next() has not been called");
+            CacheMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Accumulation buffer of the collectors in {@link Lists}, {@link Sets} and {@link Maps}. Not thread-safe.
+ * <p>
+ * A {@link Collector} cannot see whether its stream is sized, so elements are appended to chunks that double with the
+ * number of elements instead of an array that is resized: nothing is copied while collecting, combining the results
+ * of parallel substreams only concatenates their chunk lists and the finisher knows the exact number of elements.
+ *
+ * @param <T> element type
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ChunkedBuffer<T> {
+    private static final String NULL_ELEMENT = "element must not be null";
+    private static final String NULL_VALUE = "value must not be null";
+    private static final int MIN_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1 << 20;
+    private final List<Object[]> chunks = new ArrayList<>();
+    private final IntList counts = new IntList();
+    private Object[] current;
+    private int currentCount;
+    private int size;
+
+    /**
+     * @return collector gathering non-null elements into a buffer passed to the finisher
+     */
+    static <T, R> Collector<T, ?, R> collector(final Function<ChunkedBuffer<T>, R> finisher) {
+        return Collector.of(ChunkedBuffer<T>::new,
+                            (buffer, element) -> buffer.add(Objects.requireNonNull(element, NULL_ELEMENT)),
+                            ChunkedBuffer::combine,
+                            finisher);
+    }
+
+    /**
+     * @return collector gathering keys and values alternately into a buffer passed to the finisher
+     */
+    static <T, K, V, R> Collector<T, ?, R> entryCollector(final Function<? super T, ? extends K> keyMapper,
+                                                          final Function<? super T, ? extends V> valueMapper,
+                                                          final boolean nullValues,
+                                                          final Function<ChunkedBuffer<Object>, R> finisher) {
+        return Collector.of(ChunkedBuffer<Object>::new,
+                            (buffer, element) -> {
+                                buffer.add(Objects.requireNonNull(keyMapper.apply(element), "key must not be null"));
+                                V value = valueMapper.apply(element);
+                                buffer.add(nullValues ? value : Objects.requireNonNull(value, NULL_VALUE));
+                            },
+                            ChunkedBuffer::combine,
+                            finisher);
+    }
+
+    void add(final T element) {
+        if (current == null || currentCount == current.length) {
+            seal();
+            current = new Object[Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size))];
+        }
+        current[currentCount++] = element;
+        size++;
+    }
+
+    ChunkedBuffer<T> combine(final ChunkedBuffer<T> other) {
+        seal();
+        other.seal();
+        chunks.addAll(other.chunks);
+        counts.addInts(other.counts.toIntArray());
+        size += other.size;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return new array of exactly {@link #size()} elements
+     */
+    Object[] toArray() {
+        seal();
+        Object[] array = new Object[size];
+        int offset = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            int count = counts.getInt(i);
+            System.arraycopy(chunks.get(i), 0, array, offset, count);
+            offset += count;
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(final Consumer<? super T> action) {
+        seal();
+        for (int i = 0; i < chunks.size(); i++) {
+            Object[] chunk = chunks.get(i);
+            int count = counts.getInt(i);
+            for (int j = 0; j < count; j++) {
+                action.accept((T) chunk[j]);
+            }
+        }
+    }
+
+    /**
+     * Passes consecutive pairs of elements, as gathered by {@link #entryCollector}, to the action; a pair may span
+     * two chunks.
+     */
+    @SuppressWarnings("unchecked")
+    void forEachPair(final BiConsumer<? super T, ? super T> action) {
+        seal();
+        Object first = null;
+        boolean paired = false;
+        for (int i = 0; i < chunks.size(); i++) {
+            Object[] chunk = chunks.get(i);
+            int count = counts.getInt(i);
+            for (int j = 0; j < count; j++) {
+                if (paired) {
+                    action.accept((T) first, (T) chunk[j]);
+                } else {
+                    first = chunk[j];
+                }
+                paired = !paired;
+            }
+        }
+    }
+
+    private void seal() {
+        if (current != null) {
+            chunks.add(current);
+            counts.addInt(currentCount);
+            current = null;
+            currentCount = 0;
+        }
+    }
+}
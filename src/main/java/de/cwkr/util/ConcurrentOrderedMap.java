@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Thread-safe {@link ConcurrentMap} iterating in insertion order, returned by {@link Maps#concurrentOrderedMap()}.
+ * {@code null} keys and values are not permitted.
+ * <p>
+ * Keys are mapped to nodes by a {@link ConcurrentHashMap}, which makes all updates of a key atomic and lets reads
+ * proceed without blocking. New nodes are appended to a singly linked list without locking while their key is still
+ * being computed, i.e. before {@link #get(Object)} can return them, so a key visible to any thread already has its
+ * final position and keys inserted after it was seen iterate after it. Removed nodes stay in the list as tombstones
+ * with a {@code null} value until iterators or a sweep, started once tombstones outnumber the entries, unlink them.
+ * Nodes are only ever appended at the tail and the tail is never unlinked, so unlinking cannot lose live nodes.
+ * Iterators are weakly consistent: an entry whose insertion is still in progress may already be returned by an
+ * iterator, but an entry returned by {@code get} before the iteration started is never missed unless removed.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ConcurrentOrderedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    private static final int MIN_SWEEP_TOMBSTONES = 64;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentOrderedMap, Node> TAIL
+        = AtomicReferenceFieldUpdater.newUpdater(ConcurrentOrderedMap.class, Node.class, "tail");
+    private final ConcurrentHashMap<K, Node<K, V>> index = new ConcurrentHashMap<>();
+    private final Node<K, V> head = new Node<>(null, null);
+    private final AtomicInteger tombstones = new AtomicInteger();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile Node<K, V> tail = head;
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = index.get(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return update(key, (existing, previous) -> value, true);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return update(key, (existing, previous) -> existing ? previous : value, true);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return update(key, (existing, previous) -> value, false);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue, "oldValue must not be null");
+        Objects.requireNonNull(newValue, "newValue must not be null");
+        boolean[] replaced = new boolean[1];
+        index.computeIfPresent(key, (k, node) -> {
+            if (oldValue.equals(node.value)) {
+                node.value = newValue;
+                replaced[0] = true;
+            }
+            return node;
+        });
+        return replaced[0];
+    }
+
+    @Override
+    public V remove(Object key) {
+        Object[] removed = new Object[1];
+        index.computeIfPresent(cast(key), (k, node) -> {
+            removed[0] = node.value;
+            node.value = null;
+            return null;
+        });
+        return removed(removed[0]);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Object[] removed = new Object[1];
+        if (value != null) {
+            index.computeIfPresent(cast(key), (k, node) -> {
+                if (!value.equals(node.value)) {
+                    return node;
+                }
+                removed[0] = node.value;
+                node.value = null;
+                return null;
+            });
+        }
+        return removed(removed[0]) != null;
+    }
+
+    @Override
+    public void clear() {
+        for (K key : index.keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return index.size();
+            }
+
+            @Override
+            public void clear() {
+                ConcurrentOrderedMap.this.clear();
+            }
+        };
+    }
+
+    /**
+     * Atomically updates the mapping of a key, appending a new node to the order list before it is published in the
+     * index; appending never blocks, so it is safe within {@link ConcurrentHashMap#compute}.
+     *
+     * @param insert {@code true} to create an absent mapping
+     * @return previous value or {@code null} if absent
+     */
+    private V update(final K key, final Update<V> update, final boolean insert) {
+        Objects.requireNonNull(key, "key must not be null");
+        Object[] previous = new Object[1];
+        if (insert) {
+            index.compute(key, (k, node) -> {
+                if (node != null) {
+                    previous[0] = node.value;
+                    node.value = update.apply(true, node.value);
+                    return node;
+                }
+                Node<K, V> newNode = new Node<>(k, update.apply(false, null));
+                append(newNode);
+                return newNode;
+            });
+        } else {
+            index.computeIfPresent(key, (k, node) -> {
+                previous[0] = node.value;
+                node.value = update.apply(true, node.value);
+                return node;
+            });
+        }
+        return cast(previous[0]);
+    }
+
+    private void append(final Node<K, V> node) {
+        while (true) {
+            Node<K, V> last = tail;
+            Node<K, V> next = last.next;
+            if (next != null) {
+                TAIL.compareAndSet(this, last, next);
+            } else if (last.casNext(null, node)) {
+                TAIL.compareAndSet(this, last, node);
+                return;
+            }
+        }
+    }
+
+    private V removed(final Object value) {
+        if (value != null && tombstones.incrementAndGet() > Math.max(MIN_SWEEP_TOMBSTONES, index.size())) {
+            sweep();
+        }
+        return cast(value);
+    }
+
+    /**
+     * Counts a tombstone unlinked by an iterator. Concurrent iterators may unlink the same tombstone, so the count is
+     * only an estimate and kept from going negative.
+     */
+    private void unlinked() {
+        tombstones.updateAndGet(n -> n > 0 ? n - 1 : 0);
+    }
+
+    /**
+     * Unlinks all tombstones; concurrent removals started during the sweep are left for the next one.
+     */
+    private void sweep() {
+        if (sweeping.compareAndSet(false, true)) {
+            try {
+                tombstones.set(0);
+                Node<K, V> pred = head;
+                Node<K, V> node = head.next;
+                while (node != null) {
+                    Node<K, V> next = node.next;
+                    if (node.value == null && next != null) {
+                        pred.next = next;
+                    } else {
+                        pred = node;
+                    }
+                    node = next;
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object o) {
+        return (T) o;
+    }
+
+    @FunctionalInterface
+    private interface Update<V> {
+        V apply(boolean existing, V previous);
+    }
+
+    private static final class Node<K, V> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT
+            = AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+        private final K key;
+        private volatile V value;
+        private volatile Node<K, V> next;
+
+        private Node(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        private boolean casNext(final Node<K, V> expected, final Node<K, V> node) {
+            return NEXT.compareAndSet(this, expected, node);
+        }
+    }
+
+    /**
+     * Iterator skipping tombstones and unlinking those followed by another node.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private Node<K, V> pred = head;
+        private Node<K, V> nextNode;
+        private V nextValue;
+        private Node<K, V> lastReturned;
+
+        private EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            Node<K, V> node = pred.next;
+            while (node != null) {
+                V value = node.value;
+                Node<K, V> next = node.next;
+                if (value != null) {
+                    nextNode = node;
+                    nextValue = value;
+                    return;
+                }
+                if (next != null) {
+                    pred.next = next;
+                    unlinked();
+                }
+                node = next;
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = new SimpleImmutableEntry<>(nextNode.key, nextValue);
+            lastReturned = nextNode;
+            pred = nextNode;
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<K, V> node = lastReturned;
+            lastReturned = null;
+            Object[] removed = new Object[1];
+            index.computeIfPresent(node.key, (k, current) -> {
+                if (!current.equals(node)) {
+                    return current;
+                }
+                removed[0] = current.value;
+                current.value = null;
+                return null;
+            });
+            removed(removed[0]);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deterministic release of the native memory of direct and memory-mapped byte buffers.
+ * <p>
+ * The release method is looked up reflectively on first use: {@code sun.misc.Unsafe.invokeCleaner} on Java 9 and
+ * later, {@code sun.nio.ch.DirectBuffer.cleaner().clean()} on Java 8. If neither is accessible, buffers are left to
+ * the garbage collector. A freed buffer must not be accessed anymore, doing so may crash the JVM.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class DirectBuffers {
+    private static final Logger logger = LoggerFactory.getLogger(DirectBuffers.class);
+    private static final Consumer<ByteBuffer> CLEANER = createCleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Releases the memory of a direct buffer immediately; heap buffers are ignored.
+     */
+    static void free(final ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            CLEANER.accept(buffer);
+        }
+    }
+
+    private static Consumer<ByteBuffer> createCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            logger.debug("Using Unsafe.invokeCleaner to free direct buffers");
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | SecurityException e) {
+            logger.trace("Unsafe.invokeCleaner not available", e);
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            logger.debug("Using DirectBuffer.cleaner to free direct buffers");
+            return buffer -> {
+                Object bufferCleaner = invoke(cleaner, buffer);
+                if (bufferCleaner != null) {
+                    invoke(clean, bufferCleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | SecurityException e) {
+            logger.debug("Direct buffer cleaner not available, leaving direct buffers to the garbage collector", e);
+            return buffer -> { };
+        }
+    }
+
+    private static Object invoke(final Method method, final Object target, final Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            logger.debug("Freeing direct buffer failed, leaving it to the garbage collector", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Append-only error message storage used by {@link Errors}; Thread-safe. Elements are strings or messages whose
+ * string form is built lazily, such as {@link ErrorPath.Message}.
+ * <p>
+ * The backing array is reused after {@link #clear()}, so a reset instance does not allocate until it grows beyond
+ * its previous capacity. Snapshots share the backing array; slots visible to a snapshot are never overwritten,
+ * instead the array is copied before the first such write. A clear after a snapshot hands the array over to the
+ * snapshot without allocating; a replacement of the same capacity is only allocated once an element is added again.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ErrorBuffer {
+    private static final Object[] EMPTY = {};
+    private static final int MIN_CAPACITY = 8;
+    private Object[] elements = EMPTY;
+    private volatile int size;
+    private int sharedSize;
+    private int capacity;
+
+    synchronized void add(final Object element) {
+        int n = size;
+        if (n == 0 && elements.length == 0) {
+            elements = new Object[Math.max(MIN_CAPACITY, capacity)];
+        } else if (n < sharedSize || n == elements.length) {
+            elements = Arrays.copyOf(elements, n == elements.length ? Math.max(MIN_CAPACITY, n * 2) : elements.length);
+            sharedSize = 0;
+        }
+        elements[n] = element;
+        size = n + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    synchronized List<String> snapshot() {
+        int n = size;
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+        sharedSize = Math.max(sharedSize, n);
+        return new Snapshot(elements, n);
+    }
+
+    /**
+     * Discards all elements added after the buffer had the given size. Slots visible to snapshots are left as they
+     * are, they are copied before being overwritten.
+     */
+    synchronized void truncate(final int newSize) {
+        int n = size;
+        if (newSize < 0 || newSize > n) {
+            throw new IllegalArgumentException("mark " + newSize + " is outside of 0.." + n);
+        }
+        Arrays.fill(elements, Math.max(newSize, Math.min(sharedSize, n)), n, null);
+        size = newSize;
+    }
+
+    synchronized void clear() {
+        if (sharedSize > 0) {
+            capacity = elements.length;
+            elements = EMPTY;
+            sharedSize = 0;
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+    }
+
+    private static final class Snapshot extends AbstractList<String> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        private Snapshot(final Object[] elements, final int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return Objects.toString(elements[index], null);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
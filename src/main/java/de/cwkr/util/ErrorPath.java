@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+/**
+ * Immutable field path of a scoped {@link Errors} view, stored as a linked list from the innermost segment to the
+ * root, e.g. {@code order.items[3].price}. The path string is only built when a message is read.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ErrorPath {
+    private static final int NO_INDEX = -1;
+    private final ErrorPath parent;
+    private final String name;
+    private final int index;
+
+    private ErrorPath(final ErrorPath parent, final String name, final int index) {
+        this.parent = parent;
+        this.name = name;
+        this.index = index;
+    }
+
+    static ErrorPath of(final ErrorPath parent, final String name) {
+        return new ErrorPath(parent, name, NO_INDEX);
+    }
+
+    static ErrorPath of(final ErrorPath parent, final String name, final int index) {
+        return new ErrorPath(parent, name, index);
+    }
+
+    /**
+     * @return message prefixed with this path, e.g. {@code "order.items[3].price: must be positive"}
+     */
+    String prefix(final String message) {
+        StringBuilder sb = new StringBuilder(32 + message.length());
+        appendTo(sb);
+        return sb.append(": ").append(message).toString();
+    }
+
+    private void appendTo(final StringBuilder sb) {
+        if (parent != null) {
+            parent.appendTo(sb);
+            sb.append('.');
+        }
+        sb.append(name);
+        if (index != NO_INDEX) {
+            sb.append('[').append(index).append(']');
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(32);
+        appendTo(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Error message recorded within a scope; the prefixed message is built on first read.
+     */
+    static final class Message {
+        private final ErrorPath path;
+        private final String message;
+        private String prefixed;
+
+        Message(final ErrorPath path, final String message) {
+            this.path = path;
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            // racy single-check: at worst the immutable string is built more than once
+            String result = prefixed;
+            if (result == null) {
+                result = path.prefix(message);
+                prefixed = result;
+            }
+            return result;
+        }
+    }
+}
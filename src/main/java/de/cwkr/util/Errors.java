@@ -18,14 +18,34 @@ package de.cwkr.util;
 import static de.cwkr.util.UnmodifiableIterator.unmodifiableIterator;
 import static java.util.Collections.unmodifiableList;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -34,34 +54,410 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.helpers.MessageFormatter;
 
 /**
- * Error collecting container; Thread-safe using {@link CopyOnWriteArrayList}.
+ * Error collecting container; Thread-safe.
+ * <p>
+ * Lists returned by {@link #getErrors()} are immutable snapshots, so an instance can be {@link #reset()} and reused,
+ * e.g. through an {@link ErrorsPool}, without affecting errors handed out before.
+ * <p>
+ * An aggregating instance created by {@link #aggregating(int)} stores identical message templates only once
+ * together with their number of occurrences, so its memory use stays bounded no matter how many checks fail.
+ * <p>
+ * Views created by {@link #scope(String)} share the errors, listeners and pending checks of the instance they were
+ * created from, but prefix their errors with a field path such as {@code "order.items[3].price: "}. As the errors
+ * are shared, {@link #reset()}, {@link #mark()} and {@link #rollbackTo(int)} are only supported by the root instance.
+ * <p>
+ * Errors can be pushed to {@link ErrorsSubscriber}s as they occur, see {@link #subscribe(ErrorsSubscriber, int)};
+ * an instance created by {@link #streaming()} does not retain them, for scans with an unbounded number of errors.
+ * <p>
+ * All check methods also accept a precompiled {@link MessageTemplate}, saving the parsing of the message template on
+ * every failing check.
  *
  * @author Christian Winkler
  */
+@SuppressWarnings("PMD.CyclomaticComplexity") // many simple check methods
 public final class Errors implements Iterable<String> {
     private static final Logger logger = LoggerFactory.getLogger(Errors.class);
-    private final List<String> errors = new CopyOnWriteArrayList<>();
+    private static final Object[] NO_PARAMS = {};
+    private static final int DEFAULT_SAMPLE_SIZE = 3;
+    private static final ErrorsListener[] NO_LISTENERS = {};
+    private static final ErrorsSubscription[] NO_SUBSCRIPTIONS = {};
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+    private final Errors root;
+    private final ErrorPath path;
+    private final ErrorBuffer errors;
+    private final Map<String, AggregatedError> aggregates;
+    private final List<AggregatedError> aggregatedErrors;
+    private final AtomicLong aggregatedCount;
+    private final int sampleSize;
+    private final AtomicLong discardedCount;
+    private volatile ErrorsListener[] listeners = NO_LISTENERS;
+    private volatile ErrorsSubscription[] subscriptions = NO_SUBSCRIPTIONS;
+    private final int lease;
+    private volatile int generation;
+    private volatile Queue<PendingCheck> pendingChecks;
 
     public Errors() {
+        this(false);
+    }
+
+    private Errors(boolean streaming) {
+        this.root = this;
+        this.path = null;
+        this.lease = 0;
+        this.errors = new ErrorBuffer();
+        this.aggregates = null;
+        this.aggregatedErrors = null;
+        this.aggregatedCount = null;
+        this.sampleSize = 0;
+        this.discardedCount = streaming ? new AtomicLong() : null;
     }
 
     public Errors(Iterable<String> errors) {
+        this();
         addErrors(errors);
     }
 
+    private Errors(int sampleSize) {
+        Validate.isTrue(sampleSize >= 0, "sampleSize must not be negative");
+        this.root = this;
+        this.path = null;
+        this.lease = 0;
+        this.errors = new ErrorBuffer();
+        this.aggregates = new ConcurrentHashMap<>();
+        this.aggregatedErrors = new CopyOnWriteArrayList<>();
+        this.aggregatedCount = new AtomicLong();
+        this.sampleSize = sampleSize;
+        this.discardedCount = null;
+    }
+
+    private Errors(Errors parent, ErrorPath path, int lease) {
+        this.root = parent.root;
+        this.path = path;
+        this.lease = lease;
+        this.errors = parent.errors;
+        this.aggregates = parent.aggregates;
+        this.aggregatedErrors = parent.aggregatedErrors;
+        this.aggregatedCount = parent.aggregatedCount;
+        this.sampleSize = parent.sampleSize;
+        this.discardedCount = parent.discardedCount;
+    }
+
+    /**
+     * Creates an aggregating instance keeping the parameters of up to three occurrences per message template.
+     *
+     * @return errors instance
+     * @since 1.4.0
+     * @see #aggregating(int)
+     */
+    public static Errors aggregating() {
+        return aggregating(DEFAULT_SAMPLE_SIZE);
+    }
+
+    /**
+     * Creates an aggregating instance: identical message templates are stored once with their number of
+     * occurrences and the parameters of the first {@code sampleSize} occurrences. {@link #countErrors()} reports
+     * the total number of occurrences while {@link #getErrors()}, {@link #logErrors(Logger)} and
+     * {@link #throwErrors(ExceptionProducer, String, Object...)} use the summarized form of each template.
+     *
+     * @param sampleSize maximum number of parameter samples kept per template
+     * @return errors instance
+     * @throws IllegalArgumentException if sampleSize is negative
+     * @since 1.4.0
+     */
+    public static Errors aggregating(int sampleSize) {
+        return new Errors(sampleSize);
+    }
+
+    /**
+     * Creates an instance which does not retain errors: they are only counted and pushed to subscribers, see
+     * {@link #subscribe(ErrorsSubscriber, int)}. {@link #getErrors()} is always empty while {@link #countErrors()}
+     * and {@link #hasErrors()} report all errors recorded since the last {@link #reset()}.
+     *
+     * @return errors instance
+     * @since 1.4.0
+     */
+    public static Errors streaming() {
+        return new Errors(true);
+    }
+
+    /**
+     * @return {@code true} if this instance retains its errors, i.e. was not created by {@link #streaming()}
+     * @since 1.4.0
+     */
+    public boolean isRetaining() {
+        return discardedCount == null;
+    }
+
+    /**
+     * @return {@code true} if this instance aggregates identical message templates
+     * @since 1.4.0
+     */
+    public boolean isAggregating() {
+        return aggregates != null;
+    }
+
+    /**
+     * Creates a view recording its errors prefixed with the given field name, e.g. {@code "order.customer: "} for
+     * {@code errors.scope("order").scope("customer")}. The prefix is only built when an error is read, so passing
+     * checks within a scope cost no string operations.
+     *
+     * @param name field name
+     * @return scoped view sharing the errors of this instance
+     * @throws NullPointerException if name is {@code null}
+     * @throws IllegalArgumentException if name is blank
+     * @since 1.4.0
+     */
+    public Errors scope(String name) {
+        logger.trace("scope(name = {})", name);
+        Validate.notBlank(name, "name must not be blank");
+        return new Errors(this, ErrorPath.of(path, name), lease);
+    }
+
+    /**
+     * Creates a view recording its errors prefixed with the given field name and index, e.g.
+     * {@code "order.items[3]: "} for {@code errors.scope("order").scope("items", 3)}.
+     *
+     * @param name field name
+     * @param index index within the field
+     * @return scoped view sharing the errors of this instance
+     * @throws NullPointerException if name is {@code null}
+     * @throws IllegalArgumentException if name is blank or index is negative
+     * @since 1.4.0
+     * @see #scope(String)
+     */
+    public Errors scope(String name, int index) {
+        logger.trace("scope(name = {}, index = {})", name, index);
+        Validate.notBlank(name, "name must not be blank");
+        Validate.isTrue(index >= 0, "index must not be negative");
+        return new Errors(this, ErrorPath.of(path, name, index), lease);
+    }
+
+    /**
+     * @return field path of this view, e.g. {@code "order.items[3]"}, or an empty string if this is not a view
+     * @since 1.4.0
+     */
+    public String getPath() {
+        logger.trace("getPath()");
+        return path == null ? "" : path.toString();
+    }
+
+    boolean isScoped() {
+        return path != null;
+    }
+
+    /**
+     * Registers a listener notified on every check and every recorded error. Checks are only timed while at least
+     * one listener is registered.
+     *
+     * @param listener listener to register
+     * @throws NullPointerException if listener is {@code null}
+     * @since 1.4.0
+     */
+    public void addListener(ErrorsListener listener) {
+        logger.trace("addListener(listener = {})", listener);
+        Objects.requireNonNull(listener, "listener must not be null");
+        synchronized(root) {
+            ensureActive();
+            ErrorsListener[] current = root.listeners;
+            ErrorsListener[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+            root.listeners = updated;
+        }
+    }
+
+    /**
+     * Subscribes to errors recorded from now on using a buffer of 256 errors.
+     *
+     * @param subscriber subscriber
+     * @return subscription, also passed to {@link ErrorsSubscriber#onSubscribe(ErrorsSubscription)}
+     * @throws NullPointerException if subscriber is {@code null}
+     * @since 1.4.0
+     * @see #subscribe(ErrorsSubscriber, int)
+     */
+    public ErrorsSubscription subscribe(ErrorsSubscriber subscriber) {
+        logger.trace("subscribe(subscriber = {})", subscriber);
+        return subscribe(subscriber, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Subscribes to errors recorded from now on. Each error, prefixed with the path of its scope, is pushed to the
+     * subscriber as requested. Once the buffer holds bufferSize undelivered errors, recording another error blocks
+     * until the subscriber requests more or cancels; a subscriber requesting errors only from within
+     * {@link ErrorsSubscriber#onNext(String)} must therefore request at least one error up front.
+     *
+     * @param subscriber subscriber
+     * @param bufferSize maximum number of undelivered errors
+     * @return subscription, also passed to {@link ErrorsSubscriber#onSubscribe(ErrorsSubscription)}
+     * @throws NullPointerException if subscriber is {@code null}
+     * @throws IllegalArgumentException if bufferSize is not positive
+     * @since 1.4.0
+     */
+    public ErrorsSubscription subscribe(ErrorsSubscriber subscriber, int bufferSize) {
+        logger.trace("subscribe(subscriber = {}, bufferSize = {})", subscriber, bufferSize);
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        Validate.isTrue(bufferSize > 0, "bufferSize must be greater than zero");
+        ensureActive();
+        ErrorsSubscription subscription = new ErrorsSubscription(root, subscriber, bufferSize);
+        synchronized(root) {
+            ensureActive();
+            ErrorsSubscription[] current = root.subscriptions;
+            ErrorsSubscription[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = subscription;
+            root.subscriptions = updated;
+        }
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * Completes all subscriptions: each subscriber receives {@link ErrorsSubscriber#onComplete()} once its buffered
+     * errors have been delivered. Errors recorded afterwards are not pushed to these subscribers.
+     *
+     * @since 1.4.0
+     */
+    public void completeSubscriptions() {
+        logger.trace("completeSubscriptions()");
+        ErrorsSubscription[] current;
+        synchronized(root) {
+            current = root.subscriptions;
+            root.subscriptions = NO_SUBSCRIPTIONS;
+        }
+        for(ErrorsSubscription subscription: current) {
+            subscription.complete();
+        }
+    }
+
+    void unsubscribe(ErrorsSubscription subscription) {
+        synchronized(root) {
+            ErrorsSubscription[] current = root.subscriptions;
+            for(int i = 0; i < current.length; i++) {
+                if(current[i].equals(subscription)) {
+                    ErrorsSubscription[] updated = new ErrorsSubscription[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    root.subscriptions = updated;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener listener to unregister
+     * @since 1.4.0
+     */
+    public void removeListener(ErrorsListener listener) {
+        logger.trace("removeListener(listener = {})", listener);
+        synchronized(root) {
+            ErrorsListener[] current = root.listeners;
+            for(int i = 0; i < current.length; i++) {
+                if(current[i].equals(listener)) {
+                    ErrorsListener[] updated = new ErrorsListener[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    root.listeners = updated;
+                    return;
+                }
+            }
+        }
+    }
+
     public List<String> getErrors() {
         logger.trace("getErrors()");
-        return unmodifiableList(errors);
+        ensureActive();
+        if(aggregates != null) {
+            return unmodifiableList(summarize());
+        }
+        return errors.snapshot();
     }
 
+    /**
+     * @return aggregated errors in order of first occurrence; always empty unless {@link #isAggregating()}
+     * @since 1.4.0
+     */
+    public List<AggregatedError> getAggregatedErrors() {
+        logger.trace("getAggregatedErrors()");
+        ensureActive();
+        if(aggregatedErrors == null) {
+            return Collections.emptyList();
+        }
+        return unmodifiableList(aggregatedErrors);
+    }
+
+    /**
+     * Discards all errors and cancels all pending checks.
+     *
+     * @throws IllegalStateException if this is a scoped view, whose errors are shared with its parent and siblings
+     */
     public void reset() {
         logger.trace("reset()");
+        ensureActive();
+        ensureNotScoped("reset");
         errors.clear();
+        Queue<PendingCheck> queue = root.pendingChecks;
+        if(queue != null) {
+            PendingCheck pending = queue.poll();
+            while(pending != null) {
+                pending.future.cancel(true);
+                pending = queue.poll();
+            }
+        }
+        if(aggregates != null) {
+            aggregates.clear();
+            aggregatedErrors.clear();
+            aggregatedCount.set(0);
+        }
+        if(discardedCount != null) {
+            discardedCount.set(0);
+        }
+    }
+
+    /**
+     * Marks the current state for a later {@link #rollbackTo(int)}, e.g. before trying an alternative interpretation
+     * of an input.
+     *
+     * @return mark, the number of errors recorded so far
+     * @throws IllegalStateException if this instance aggregates, does not retain errors or is a scoped view
+     * @since 1.4.0
+     */
+    public int mark() {
+        logger.trace("mark()");
+        ensureActive();
+        ensureNotScoped("mark");
+        ensureRollbackSupported();
+        return errors.size();
+    }
+
+    /**
+     * Discards all errors recorded after the mark was taken; errors recorded before are kept without copying.
+     * Listeners and subscribers already notified of discarded errors are not informed.
+     *
+     * @param mark mark returned by {@link #mark()}
+     * @throws IllegalArgumentException if the mark is negative or greater than the number of errors, e.g. because
+     * this instance has been reset in the meantime
+     * @throws IllegalStateException if this instance aggregates, does not retain errors or is a scoped view, whose
+     * errors are shared with its parent and siblings
+     * @since 1.4.0
+     */
+    public void rollbackTo(int mark) {
+        logger.trace("rollbackTo(mark = {})", mark);
+        ensureActive();
+        ensureNotScoped("rollbackTo");
+        ensureRollbackSupported();
+        errors.truncate(mark);
     }
 
     public void addError(String error) {
         logger.trace("addError(error = {})", error);
-        errors.add(error);
+        ensureActive();
+        if(aggregates != null) {
+            aggregate(error, NO_PARAMS);
+        } else {
+            add(error);
+        }
+        notifyError(error, NO_PARAMS);
     }
 
     public void addErrors(Iterable<String> errors) {
@@ -80,18 +476,29 @@ public final class Errors implements Iterable<String> {
 
     public int countErrors() {
         logger.trace("countErrors()");
+        ensureActive();
+        if(aggregates != null) {
+            return (int) Math.min(aggregatedCount.get(), Integer.MAX_VALUE);
+        }
+        if(discardedCount != null) {
+            return (int) Math.min(discardedCount.get(), Integer.MAX_VALUE);
+        }
         return errors.size();
     }
 
     public boolean hasErrors() {
         logger.trace("hasErrors()");
-        return !errors.isEmpty();
+        ensureActive();
+        return errors.size() > 0
+            || aggregatedErrors != null && !aggregatedErrors.isEmpty()
+            || discardedCount != null && discardedCount.get() > 0;
     }
 
     public void logErrors(Logger logger) {
         Errors.logger.trace("logErrors(logger = {})", logger);
         Objects.requireNonNull(logger, "logger must not be null");
-        errors.forEach(logger::error);
+        ensureActive();
+        messages().forEach(logger::error);
     }
 
     public void logErrors() {
@@ -99,10 +506,76 @@ public final class Errors implements Iterable<String> {
         logErrors(logger);
     }
 
+    /**
+     * Logs all errors as a single multi-line event; does nothing if there are no errors.
+     *
+     * @param logger logger to use
+     * @throws NullPointerException if logger is {@code null}
+     * @since 1.4.0
+     */
+    public void logErrorsBatched(Logger logger) {
+        Errors.logger.trace("logErrorsBatched(logger = {})", logger);
+        Objects.requireNonNull(logger, "logger must not be null");
+        ensureActive();
+        List<String> messages = messages();
+        if(!messages.isEmpty()) {
+            logger.error(batch(messages, 0L));
+        }
+    }
+
+    /**
+     * Logs all errors as a single multi-line event unless the rate limiter suppresses it; the event reports the
+     * number of events suppressed since the last one. Does nothing if there are no errors.
+     *
+     * @param logger logger to use
+     * @param limiter rate limiter, usually shared by all instances logging to the same logger
+     * @throws NullPointerException if logger or limiter is {@code null}
+     * @since 1.4.0
+     */
+    public void logErrorsBatched(Logger logger, LogRateLimiter limiter) {
+        Errors.logger.trace("logErrorsBatched(logger = {}, limiter = {})", logger, limiter);
+        Objects.requireNonNull(logger, "logger must not be null");
+        Objects.requireNonNull(limiter, "limiter must not be null");
+        ensureActive();
+        List<String> messages = messages();
+        if(!messages.isEmpty()) {
+            long suppressed = limiter.tryAcquire(logger);
+            if(suppressed >= 0) {
+                logger.error(batch(messages, suppressed));
+            }
+        }
+    }
+
+    private static String batch(List<String> messages, long suppressed) {
+        int length = 32;
+        for(String message: messages) {
+            length += message.length() + 3;
+        }
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(messages.size()).append(messages.size() == 1 ? " error" : " errors");
+        if(suppressed > 0) {
+            sb.append(" (").append(suppressed).append(" events suppressed)");
+        }
+        sb.append(':');
+        for(String message: messages) {
+            sb.append("\n - ").append(message);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Throws the exception produced from the message and all errors if any error has been recorded.
+     *
+     * @param exceptionProducer exception producer
+     * @param msg message template
+     * @param params message parameters
+     * @throws IllegalStateException if asynchronous checks are pending, see {@link #awaitChecks(Duration)}
+     */
     public void throwErrors(ExceptionProducer<? extends RuntimeException> exceptionProducer, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("throwErrors(exceptionProducer = {}, msg = {}, params = {})", exceptionProducer, msg, Arrays.toString(params));
         }
+        ensureNoPendingChecks();
         if(hasErrors()) {
             throw exceptionProducer.produce(
                 MessageFormatter.arrayFormat(msg, params).getMessage(),
@@ -111,16 +584,34 @@ public final class Errors implements Iterable<String> {
         }
     }
 
+    /**
+     * @since 1.4.0
+     * @see #throwErrors(ExceptionProducer, String, Object...)
+     */
+    public void throwErrors(ExceptionProducer<? extends RuntimeException> exceptionProducer, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("throwErrors(exceptionProducer = {}, msg = {}, params = {})", exceptionProducer, msg, Arrays.toString(params));
+        }
+        ensureNoPendingChecks();
+        if(hasErrors()) {
+            throw exceptionProducer.produce(
+                msg.format(params),
+                getErrors()
+            );
+        }
+    }
+
     @Override
     public Iterator<String> iterator() {
         logger.trace("iterator()");
-        return unmodifiableIterator(errors.iterator());
+        ensureActive();
+        return unmodifiableIterator(messages().iterator());
     }
 
     @Override
     public String toString() {
         logger.trace("toString()");
-        return new ToStringBuilder(this).append("errors", errors)
+        return new ToStringBuilder(this).append("errors", messages())
                                         .build();
     }
 
@@ -133,149 +624,1614 @@ public final class Errors implements Iterable<String> {
         Errors that = (Errors) o;
 
         return new EqualsBuilder()
-            .append(errors, that.errors)
+            .append(messages(), that.messages())
             .isEquals();
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
-            .append(errors)
+            .append(messages())
             .toHashCode();
     }
 
+    /**
+     * @return {@code true} if this instance has been released to an {@link ErrorsPool} and must not be used anymore,
+     *     even after the pool handed out its storage again
+     * @since 1.4.0
+     */
+    public boolean isReleased() {
+        return lease != root.generation;
+    }
+
+    /**
+     * Ends the lease of this handle: this handle and all views created from it become unusable, listeners are
+     * removed and subscribers receive {@link ErrorsSubscriber#onComplete()}.
+     *
+     * @return root instance owning the storage, to be handed out again by {@link #lease()}
+     */
+    Errors markReleased() {
+        Validate.isTrue(path == null, "scoped views cannot be released");
+        ErrorsSubscription[] current;
+        synchronized(root) {
+            ensureActive();
+            root.generation++;
+            root.listeners = NO_LISTENERS;
+            current = root.subscriptions;
+            root.subscriptions = NO_SUBSCRIPTIONS;
+        }
+        for(ErrorsSubscription subscription: current) {
+            subscription.complete();
+        }
+        return root;
+    }
+
+    /**
+     * @return new handle sharing the storage of this released root instance; handles of earlier leases stay released
+     */
+    Errors lease() {
+        synchronized(root) {
+            return new Errors(root, null, root.generation);
+        }
+    }
+
+    private void ensureActive() {
+        if(lease != root.generation) {
+            throw new IllegalStateException("Errors instance has been released and must not be used anymore");
+        }
+    }
+
+    private void ensureNoPendingChecks() {
+        Queue<PendingCheck> queue = root.pendingChecks;
+        if(queue != null && !queue.isEmpty()) {
+            throw new IllegalStateException(queue.size() + " asynchronous checks are pending, call awaitChecks first");
+        }
+    }
+
+    private void ensureNotScoped(String method) {
+        if(path != null) {
+            throw new IllegalStateException(method + " is not supported by scoped views");
+        }
+    }
+
+    private void ensureRollbackSupported() {
+        if(aggregates != null || discardedCount != null) {
+            throw new IllegalStateException("rollback is not supported by aggregating or streaming instances");
+        }
+    }
+
+    private List<String> messages() {
+        return aggregates != null ? summarize() : errors.snapshot();
+    }
+
+    private List<String> summarize() {
+        List<String> summaries = new ArrayList<>(aggregatedErrors.size());
+        for(AggregatedError aggregatedError: aggregatedErrors) {
+            summaries.add(aggregatedError.getSummary());
+        }
+        return summaries;
+    }
+
+    private void add(String message) {
+        if(discardedCount != null) {
+            discardedCount.incrementAndGet();
+        } else {
+            errors.add(path == null ? message : new ErrorPath.Message(path, message));
+        }
+        publish(message);
+    }
+
+    private void publish(String message) {
+        ErrorsSubscription[] current = root.subscriptions;
+        if(current.length > 0) {
+            String error = path == null ? message : path.prefix(message);
+            for(ErrorsSubscription subscription: current) {
+                subscription.publish(error);
+            }
+        }
+    }
+
+    private void aggregate(String template, Object[] params) {
+        aggregate(template, "", params);
+    }
+
+    private void aggregate(String template, String suffix, Object[] params) {
+        String msg = path == null ? template : path.prefix(template);
+        AggregatedError aggregatedError = aggregates.get(msg);
+        if(aggregatedError == null) {
+            AggregatedError created = new AggregatedError(msg, sampleSize);
+            aggregatedError = aggregates.putIfAbsent(msg, created);
+            if(aggregatedError == null) {
+                aggregatedError = created;
+                aggregatedErrors.add(created);
+            }
+        }
+        aggregatedError.record(params);
+        aggregatedCount.incrementAndGet();
+        if(root.subscriptions.length > 0) {
+            publish(MessageFormatter.arrayFormat(template, params).getMessage() + suffix);
+        }
+    }
+
+    private void fail(String msg, Object[] params) {
+        if(aggregates != null) {
+            aggregate(msg, params);
+        } else {
+            add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        }
+        notifyError(msg, params);
+    }
+
+    private void fail(MessageTemplate msg, String suffix, Object[] params) {
+        String pattern = suffix.isEmpty() ? msg.getPattern() : msg.getPattern() + suffix;
+        if(aggregates != null) {
+            aggregate(pattern, params);
+        } else {
+            add(msg.format(params, suffix));
+        }
+        notifyError(pattern, params);
+    }
+
+    /**
+     * Records a failed bulk check. The failing indices are appended to the message but not to the template, so an
+     * aggregating instance keeps counting all failures of a check under one template.
+     */
+    private void failAt(String template, MessageTemplate msg, int[] indices, Object[] params) {
+        String suffix = RangeChecks.describe(indices);
+        if(aggregates != null) {
+            aggregate(template, suffix, params);
+        } else if(msg != null) {
+            add(msg.format(params, suffix));
+        } else {
+            add(MessageFormatter.arrayFormat(template, params).getMessage() + suffix);
+        }
+        notifyError(template, params);
+    }
+
+    private void notifyError(String msg, Object[] params) {
+        for(ErrorsListener listener: root.listeners) {
+            listener.onError(msg, params);
+        }
+    }
+
+    private Queue<PendingCheck> pendingChecks() {
+        synchronized(root) {
+            if(root.pendingChecks == null) {
+                root.pendingChecks = new ConcurrentLinkedQueue<>();
+            }
+            return root.pendingChecks;
+        }
+    }
+
+    private void awaitCheck(PendingCheck pending, long deadline) {
+        String suffix;
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            boolean passed = Boolean.TRUE.equals(pending.future.get(remaining, TimeUnit.NANOSECONDS));
+            pending.check(passed, "");
+            return;
+        } catch (TimeoutException e) {
+            pending.future.cancel(true);
+            suffix = " (timed out)";
+        } catch (ExecutionException | CancellationException e) {
+            logger.debug("Asynchronous check failed: {}", pending.msg, e);
+            suffix = " (check failed)";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.cancel(true);
+            suffix = " (interrupted)";
+        }
+        pending.check(false, suffix);
+    }
+
+    private static <T extends Comparable<? super T>> Predicate<T> between(T min, T max) {
+        Objects.requireNonNull(min, "min must not be null");
+        Objects.requireNonNull(max, "max must not be null");
+        return value -> value != null && value.compareTo(min) >= 0 && value.compareTo(max) <= 0;
+    }
+
+    private static Predicate<CharSequence> matching(Pattern pattern) {
+        return value -> value != null && pattern.matcher(value).matches();
+    }
+
+    private long startCheck() {
+        return root.listeners.length == 0 ? 0L : System.nanoTime();
+    }
+
+    private void check(String check, boolean passed, long start, String msg, Object[] params) {
+        check(check, passed, start, msg, msg, params);
+    }
+
+    private void check(String check, int[] indices, long start, String msg, Object[] params) {
+        ensureActive();
+        boolean passed = indices.length == 0;
+        if(!passed) {
+            failAt(msg, null, indices, params);
+        }
+        notifyCheck(check, msg, passed, start);
+    }
+
+    private void check(String check, boolean passed, long start, String msg, String errorMsg, Object[] params) {
+        ensureActive();
+        if(!passed) {
+            fail(errorMsg, params);
+        }
+        notifyCheck(check, msg, passed, start);
+    }
+
+    private void check(String check, boolean passed, long start, MessageTemplate msg, Object[] params) {
+        check(check, passed, start, msg, "", params);
+    }
+
+    private void check(String check, int[] indices, long start, MessageTemplate msg, Object[] params) {
+        ensureActive();
+        boolean passed = indices.length == 0;
+        if(!passed) {
+            failAt(msg.getPattern(), msg, indices, params);
+        }
+        notifyCheck(check, msg.getPattern(), passed, start);
+    }
+
+    private void check(String check, boolean passed, long start, MessageTemplate msg, String suffix, Object[] params) {
+        ensureActive();
+        if(!passed) {
+            fail(msg, suffix, params);
+        }
+        notifyCheck(check, msg.getPattern(), passed, start);
+    }
+
+    private void notifyCheck(String check, String msg, boolean passed, long start) {
+        ErrorsListener[] current = root.listeners;
+        if(current.length > 0) {
+            long nanos = start == 0L ? 0L : System.nanoTime() - start;
+            for(ErrorsListener listener: current) {
+                listener.onCheck(check, msg, passed, nanos);
+            }
+        }
+    }
+
+    /**
+     * Registers an asynchronous check which fails if the future completes with anything but {@link Boolean#TRUE}.
+     * The result is evaluated by {@link #awaitChecks(Duration)}. A check timing out or discarded by {@link #reset()}
+     * cancels the future, which does not interrupt the computation completing it; use
+     * {@link #isTrueAsync(BooleanSupplier, Executor, String, Object...)} for checks to be interrupted.
+     *
+     * @param future pending check result
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if future is {@code null}
+     * @since 1.4.0
+     */
+    public void isTrueAsync(CompletableFuture<Boolean> future, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isTrueAsync(future = {}, msg = {}, params = {})", future, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(future, "future must not be null");
+        ensureActive();
+        pendingChecks().add(new PendingCheck(this, future, startCheck(), msg, params));
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isTrueAsync(CompletableFuture, String, Object...)
+     */
+    public void isTrueAsync(CompletableFuture<Boolean> future, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isTrueAsync(future = {}, msg = {}, params = {})", future, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(future, "future must not be null");
+        ensureActive();
+        pendingChecks().add(new PendingCheck(this, future, startCheck(), msg, params));
+    }
+
+    /**
+     * Runs a blocking check asynchronously using virtual threads if available, see
+     * {@link #isTrueAsync(BooleanSupplier, Executor, String, Object...)}.
+     *
+     * @param check blocking check, e.g. a lookup in a repository
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if check is {@code null}
+     * @since 1.4.0
+     */
+    public void isTrueAsync(BooleanSupplier check, String msg, Object ...params) {
+        // traced by the overload doing the work
+        isTrueAsync(check, AsyncChecks.DEFAULT_EXECUTOR, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isTrueAsync(BooleanSupplier, String, Object...)
+     */
+    public void isTrueAsync(BooleanSupplier check, MessageTemplate msg, Object ...params) {
+        // traced by the overload doing the work
+        isTrueAsync(check, AsyncChecks.DEFAULT_EXECUTOR, msg, params);
+    }
+
+    /**
+     * Runs a blocking check asynchronously on the given executor; multiple checks run concurrently. The result is
+     * evaluated by {@link #awaitChecks(Duration)}. A check timing out or discarded by {@link #reset()} is cancelled
+     * and its thread interrupted.
+     *
+     * @param check blocking check, e.g. a lookup in a repository
+     * @param executor executor running the check
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if check or executor is {@code null}
+     * @since 1.4.0
+     */
+    public void isTrueAsync(BooleanSupplier check, Executor executor, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isTrueAsync(check = {}, executor = {}, msg = {}, params = {})", check, executor, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(check, "check must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        ensureActive();
+        FutureTask<Boolean> task = new FutureTask<>(check::getAsBoolean);
+        executor.execute(task);
+        pendingChecks().add(new PendingCheck(this, task, startCheck(), msg, params));
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isTrueAsync(BooleanSupplier, Executor, String, Object...)
+     */
+    public void isTrueAsync(BooleanSupplier check, Executor executor, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isTrueAsync(check = {}, executor = {}, msg = {}, params = {})", check, executor, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(check, "check must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        ensureActive();
+        FutureTask<Boolean> task = new FutureTask<>(check::getAsBoolean);
+        executor.execute(task);
+        pendingChecks().add(new PendingCheck(this, task, startCheck(), msg, params));
+    }
+
+    /**
+     * Waits for all pending asynchronous checks and records their errors. Checks not completed within the timeout
+     * are cancelled and recorded with their message followed by {@code " (timed out)"}, checks completing
+     * exceptionally are recorded with their message followed by {@code " (check failed)"}.
+     *
+     * @param timeout maximum time to wait for all pending checks
+     * @throws NullPointerException if timeout is {@code null}
+     * @since 1.4.0
+     */
+    public void awaitChecks(Duration timeout) {
+        logger.trace("awaitChecks(timeout = {})", timeout);
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        ensureActive();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Queue<PendingCheck> queue = pendingChecks();
+        PendingCheck pending = queue.poll();
+        while(pending != null) {
+            awaitCheck(pending, deadline);
+            pending = queue.poll();
+        }
+    }
+
+    /**
+     * @return number of asynchronous checks not yet evaluated by {@link #awaitChecks(Duration)}
+     * @since 1.4.0
+     */
+    public int countPendingChecks() {
+        logger.trace("countPendingChecks()");
+        return pendingChecks().size();
+    }
+
     public void isNull(Object obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNull(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(!Objects.isNull(obj)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNull", Objects.isNull(obj), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNull(Object, String, Object...)
+     */
+    public void isNull(Object obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNull(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isNull", Objects.isNull(obj), start, msg, params);
     }
 
     public void isNotNull(Object obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNotNull(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(Objects.isNull(obj)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNotNull", Objects.nonNull(obj), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotNull(Object, String, Object...)
+     */
+    public void isNotNull(Object obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotNull(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isNotNull", Objects.nonNull(obj), start, msg, params);
     }
 
     public void isEmpty(CharSequence obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(StringUtils.isNotEmpty(obj)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isEmpty", StringUtils.isEmpty(obj), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEmpty(CharSequence, String, Object...)
+     */
+    public void isEmpty(CharSequence obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isEmpty", StringUtils.isEmpty(obj), start, msg, params);
     }
 
     public void isNotEmpty(CharSequence obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNotEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(StringUtils.isEmpty(obj)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNotEmpty", StringUtils.isNotEmpty(obj), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotEmpty(CharSequence, String, Object...)
+     */
+    public void isNotEmpty(CharSequence obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isNotEmpty", StringUtils.isNotEmpty(obj), start, msg, params);
     }
 
     public void isEmpty(Collection<?> obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(!obj.isEmpty()) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isEmpty", obj.isEmpty(), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEmpty(Collection, String, Object...)
+     */
+    public void isEmpty(Collection<?> obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isEmpty", obj.isEmpty(), start, msg, params);
     }
 
     public void isNotEmpty(Collection<?> obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNotEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(obj.isEmpty()) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNotEmpty", !obj.isEmpty(), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotEmpty(Collection, String, Object...)
+     */
+    public void isNotEmpty(Collection<?> obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotEmpty(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isNotEmpty", !obj.isEmpty(), start, msg, params);
     }
 
     public void isBlank(CharSequence obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isBlank(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(StringUtils.isNotBlank(obj)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isBlank", StringUtils.isBlank(obj), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isBlank(CharSequence, String, Object...)
+     */
+    public void isBlank(CharSequence obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBlank(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isBlank", StringUtils.isBlank(obj), start, msg, params);
     }
 
     public void isNotBlank(CharSequence obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNotBlank(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(StringUtils.isBlank(obj)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNotBlank", StringUtils.isNotBlank(obj), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotBlank(CharSequence, String, Object...)
+     */
+    public void isNotBlank(CharSequence obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotBlank(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isNotBlank", StringUtils.isNotBlank(obj), start, msg, params);
+    }
+
+    /**
+     * @param obj value to check; {@code null} never matches
+     * @param pattern pattern the whole value must match
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if pattern is {@code null}
+     * @since 1.4.0
+     */
+    public void isMatching(CharSequence obj, Pattern pattern, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isMatching(obj = {}, pattern = {}, msg = {}, params = {})", obj, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isMatching", obj != null && pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isMatching(CharSequence, Pattern, String, Object...)
+     */
+    public void isMatching(CharSequence obj, Pattern pattern, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isMatching(obj = {}, pattern = {}, msg = {}, params = {})", obj, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isMatching", obj != null && pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @param obj value to check; {@code null} never matches
+     * @param regex regular expression the whole value must match, compiled using {@link PatternCache#defaultCache()}
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if regex is {@code null}
+     * @throws java.util.regex.PatternSyntaxException if regex is invalid
+     * @since 1.4.0
+     */
+    public void isMatching(CharSequence obj, String regex, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isMatching(obj = {}, regex = {}, msg = {}, params = {})", obj, regex, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        Pattern pattern = PatternCache.defaultCache().compile(regex);
+        check("isMatching", obj != null && pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isMatching(CharSequence, String, String, Object...)
+     */
+    public void isMatching(CharSequence obj, String regex, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isMatching(obj = {}, regex = {}, msg = {}, params = {})", obj, regex, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        Pattern pattern = PatternCache.defaultCache().compile(regex);
+        check("isMatching", obj != null && pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @param obj value to check; {@code null} never matches
+     * @param pattern pattern the whole value must not match
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if pattern is {@code null}
+     * @since 1.4.0
+     */
+    public void isNotMatching(CharSequence obj, Pattern pattern, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotMatching(obj = {}, pattern = {}, msg = {}, params = {})", obj, pattern, msg, Arrays.toString(params));
         }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isNotMatching", obj == null || !pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotMatching(CharSequence, Pattern, String, Object...)
+     */
+    public void isNotMatching(CharSequence obj, Pattern pattern, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotMatching(obj = {}, pattern = {}, msg = {}, params = {})", obj, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isNotMatching", obj == null || !pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @param obj value to check; {@code null} never matches
+     * @param regex regular expression the whole value must not match, compiled using
+     * {@link PatternCache#defaultCache()}
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if regex is {@code null}
+     * @throws java.util.regex.PatternSyntaxException if regex is invalid
+     * @since 1.4.0
+     */
+    public void isNotMatching(CharSequence obj, String regex, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotMatching(obj = {}, regex = {}, msg = {}, params = {})", obj, regex, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        Pattern pattern = PatternCache.defaultCache().compile(regex);
+        check("isNotMatching", obj == null || !pattern.matcher(obj).matches(), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotMatching(CharSequence, String, String, Object...)
+     */
+    public void isNotMatching(CharSequence obj, String regex, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotMatching(obj = {}, regex = {}, msg = {}, params = {})", obj, regex, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        Pattern pattern = PatternCache.defaultCache().compile(regex);
+        check("isNotMatching", obj == null || !pattern.matcher(obj).matches(), start, msg, params);
     }
 
     public void isContainingDuplicates(Collection<?> obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isContainingDuplicates(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(obj.stream().noneMatch(e -> Collections.frequency(obj, e) > 1)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isContainingDuplicates", obj.stream().anyMatch(e -> Collections.frequency(obj, e) > 1), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isContainingDuplicates(Collection, String, Object...)
+     */
+    public void isContainingDuplicates(Collection<?> obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isContainingDuplicates(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isContainingDuplicates", obj.stream().anyMatch(e -> Collections.frequency(obj, e) > 1), start, msg, params);
     }
 
     public void isNotContainingDuplicates(Collection<?> obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNotContainingDuplicates(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(obj.stream().anyMatch(e -> Collections.frequency(obj, e) > 1)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNotContainingDuplicates", obj.stream().noneMatch(e -> Collections.frequency(obj, e) > 1), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotContainingDuplicates(Collection, String, Object...)
+     */
+    public void isNotContainingDuplicates(Collection<?> obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotContainingDuplicates(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isNotContainingDuplicates", obj.stream().noneMatch(e -> Collections.frequency(obj, e) > 1), start, msg, params);
     }
 
     public void isBetween(int num, int min, int max, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
         }
-        if(num < min || num > max) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isBetween", num >= min && num <= max, start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isBetween(int, int, int, String, Object...)
+     */
+    public void isBetween(int num, int min, int max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isBetween", num >= min && num <= max, start, msg, params);
+    }
+
+    /**
+     * @param num value to check
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @since 1.4.0
+     */
+    public void isBetween(long num, long min, long max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isBetween", num >= min && num <= max, start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isBetween(long, long, long, String, Object...)
+     */
+    public void isBetween(long num, long min, long max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isBetween", num >= min && num <= max, start, msg, params);
+    }
+
+    /**
+     * @param num value to check; {@code NaN} is never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @since 1.4.0
+     */
+    public void isBetween(double num, double min, double max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isBetween", num >= min && num <= max, start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isBetween(double, double, double, String, Object...)
+     */
+    public void isBetween(double num, double min, double max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isBetween", num >= min && num <= max, start, msg, params);
+    }
+
+    /**
+     * @param num value to check; {@code null} is never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if min or max is {@code null}
+     * @since 1.4.0
+     */
+    public void isBetween(BigDecimal num, BigDecimal min, BigDecimal max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(min, "min must not be null");
+        Objects.requireNonNull(max, "max must not be null");
+        long start = startCheck();
+        check("isBetween", num != null && num.compareTo(min) >= 0 && num.compareTo(max) <= 0, start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isBetween(BigDecimal, BigDecimal, BigDecimal, String, Object...)
+     */
+    public void isBetween(BigDecimal num, BigDecimal min, BigDecimal max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isBetween(num = {}, min = {}, max = {}, msg = {}, params = {})", num, min, max, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(min, "min must not be null");
+        Objects.requireNonNull(max, "max must not be null");
+        long start = startCheck();
+        check("isBetween", num != null && num.compareTo(min) >= 0 && num.compareTo(max) <= 0, start, msg, params);
+    }
+
+    /**
+     * Checks all values in a single pass and records one error listing the indices of all values out of range,
+     * e.g. {@code "must be positive (at indices 3, 7-9)"}.
+     *
+     * @param values values to check
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public void isEachBetween(int[] values, int min, int max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetween(int[], int, int, String, Object...)
+     */
+    public void isEachBetween(int[] values, int min, int max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, false), start, msg, params);
+    }
+
+    /**
+     * Same as {@link #isEachBetween(int[], int, int, String, Object...)} but scans large arrays in parallel using the
+     * common fork-join pool.
+     *
+     * @param values values to check
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public void isEachBetweenParallel(int[] values, int min, int max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(int[], int, int, String, Object...)
+     */
+    public void isEachBetweenParallel(int[] values, int min, int max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetween(int[], int, int, String, Object...)
+     */
+    public void isEachBetween(long[] values, long min, long max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetween(long[], long, long, String, Object...)
+     */
+    public void isEachBetween(long[] values, long min, long max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(int[], int, int, String, Object...)
+     */
+    public void isEachBetweenParallel(long[] values, long min, long max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(long[], long, long, String, Object...)
+     */
+    public void isEachBetweenParallel(long[] values, long min, long max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code NaN} is never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetween(int[], int, int, String, Object...)
+     */
+    public void isEachBetween(double[] values, double min, double max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetween(double[], double, double, String, Object...)
+     */
+    public void isEachBetween(double[] values, double min, double max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code NaN} is never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(int[], int, int, String, Object...)
+     */
+    public void isEachBetweenParallel(double[] values, double min, double max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(double[], double, double, String, Object...)
+     */
+    public void isEachBetweenParallel(double[] values, double min, double max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachBetween", RangeChecks.outside(values, min, max, true), start, msg, params);
+    }
+
+    /**
+     * Checks all elements in a single pass and records one error listing the indices of all {@code null} elements,
+     * e.g. {@code "must not be null (at indices 3, 7-9)"}.
+     *
+     * @param values values to check
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public void isEachNotNull(Collection<?> values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNull(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotNull(Collection, String, Object...)
+     */
+    public void isEachNotNull(Collection<?> values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNull(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, false), start, msg, params);
+    }
+
+    /**
+     * Same as {@link #isEachNotNull(Collection, String, Object...)} but scans large collections in parallel using the
+     * common fork-join pool.
+     *
+     * @param values values to check
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public void isEachNotNullParallel(Collection<?> values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNullParallel(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Collection, String, Object...)
+     */
+    public void isEachNotNullParallel(Collection<?> values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNullParallel(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNull(Collection, String, Object...)
+     */
+    public void isEachNotNull(Object[] values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNull(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotNull(Object[], String, Object...)
+     */
+    public void isEachNotNull(Object[] values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNull(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Collection, String, Object...)
+     */
+    public void isEachNotNullParallel(Object[] values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNullParallel(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Object[], String, Object...)
+     */
+    public void isEachNotNullParallel(Object[] values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotNullParallel(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotNull", BulkChecks.failing(values, Objects::nonNull, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are blank
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNull(Collection, String, Object...)
+     */
+    public void isEachNotBlank(Collection<? extends CharSequence> values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlank(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotBlank(Collection, String, Object...)
+     */
+    public void isEachNotBlank(Collection<? extends CharSequence> values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlank(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are blank
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Collection, String, Object...)
+     */
+    public void isEachNotBlankParallel(Collection<? extends CharSequence> values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlankParallel(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotBlankParallel(Collection, String, Object...)
+     */
+    public void isEachNotBlankParallel(Collection<? extends CharSequence> values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlankParallel(values.size = {}, msg = {}, params = {})", values.size(), msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are blank
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNull(Collection, String, Object...)
+     */
+    public void isEachNotBlank(CharSequence[] values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlank(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotBlank(CharSequence[], String, Object...)
+     */
+    public void isEachNotBlank(CharSequence[] values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlank(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are blank
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Collection, String, Object...)
+     */
+    public void isEachNotBlankParallel(CharSequence[] values, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlankParallel(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachNotBlankParallel(CharSequence[], String, Object...)
+     */
+    public void isEachNotBlankParallel(CharSequence[] values, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachNotBlankParallel(values.length = {}, msg = {}, params = {})", values.length, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isEachNotBlank", BulkChecks.failing(values, StringUtils::isNotBlank, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @param <T> element type
+     * @throws NullPointerException if values, min or max is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetween(int[], int, int, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetween(Collection<? extends T> values, T min, T max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.size = {}, min = {}, max = {}, msg = {}, params = {})", values.size(), min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetween(Collection, Comparable, Comparable, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetween(Collection<? extends T> values, T min, T max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.size = {}, min = {}, max = {}, msg = {}, params = {})", values.size(), min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @param <T> element type
+     * @throws NullPointerException if values, min or max is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(int[], int, int, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetweenParallel(Collection<? extends T> values, T min, T max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.size = {}, min = {}, max = {}, msg = {}, params = {})", values.size(), min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(Collection, Comparable, Comparable, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetweenParallel(Collection<? extends T> values, T min, T max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.size = {}, min = {}, max = {}, msg = {}, params = {})", values.size(), min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @param <T> element type
+     * @throws NullPointerException if values, min or max is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetween(int[], int, int, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetween(T[] values, T min, T max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachBetween(Comparable[], Comparable, Comparable, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetween(T[] values, T min, T max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetween(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements are never in range
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @param msg message template
+     * @param params message parameters
+     * @param <T> element type
+     * @throws NullPointerException if values, min or max is {@code null}
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(int[], int, int, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetweenParallel(T[] values, T min, T max, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
         }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, true), start, msg, params);
     }
 
+    /**
+     * @since 1.4.0
+     * @see #isEachBetweenParallel(Comparable[], Comparable, Comparable, String, Object...)
+     */
+    public <T extends Comparable<? super T>> void isEachBetweenParallel(T[] values, T min, T max, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachBetweenParallel(values.length = {}, min = {}, max = {}, msg = {}, params = {})", values.length, min, max, msg, Arrays.toString(params));
+        }
+        Predicate<T> inRange = between(min, max);
+        long start = startCheck();
+        check("isEachBetween", BulkChecks.failing(values, inRange, true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements never match
+     * @param pattern pattern each whole value must match
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values or pattern is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNull(Collection, String, Object...)
+     */
+    public void isEachMatching(Collection<? extends CharSequence> values, Pattern pattern, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatching(values.size = {}, pattern = {}, msg = {}, params = {})", values.size(), pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachMatching(Collection, Pattern, String, Object...)
+     */
+    public void isEachMatching(Collection<? extends CharSequence> values, Pattern pattern, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatching(values.size = {}, pattern = {}, msg = {}, params = {})", values.size(), pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements never match
+     * @param pattern pattern each whole value must match
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values or pattern is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Collection, String, Object...)
+     */
+    public void isEachMatchingParallel(Collection<? extends CharSequence> values, Pattern pattern, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatchingParallel(values.size = {}, pattern = {}, msg = {}, params = {})", values.size(), pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachMatchingParallel(Collection, Pattern, String, Object...)
+     */
+    public void isEachMatchingParallel(Collection<? extends CharSequence> values, Pattern pattern, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatchingParallel(values.size = {}, pattern = {}, msg = {}, params = {})", values.size(), pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), true), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements never match
+     * @param pattern pattern each whole value must match
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values or pattern is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNull(Collection, String, Object...)
+     */
+    public void isEachMatching(CharSequence[] values, Pattern pattern, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatching(values.length = {}, pattern = {}, msg = {}, params = {})", values.length, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), false), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachMatching(CharSequence[], Pattern, String, Object...)
+     */
+    public void isEachMatching(CharSequence[] values, Pattern pattern, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatching(values.length = {}, pattern = {}, msg = {}, params = {})", values.length, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), false), start, msg, params);
+    }
+
+    /**
+     * @param values values to check; {@code null} elements never match
+     * @param pattern pattern each whole value must match
+     * @param msg message template
+     * @param params message parameters
+     * @throws NullPointerException if values or pattern is {@code null}
+     * @since 1.4.0
+     * @see #isEachNotNullParallel(Collection, String, Object...)
+     */
+    public void isEachMatchingParallel(CharSequence[] values, Pattern pattern, String msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatchingParallel(values.length = {}, pattern = {}, msg = {}, params = {})", values.length, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), true), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEachMatchingParallel(CharSequence[], Pattern, String, Object...)
+     */
+    public void isEachMatchingParallel(CharSequence[] values, Pattern pattern, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEachMatchingParallel(values.length = {}, pattern = {}, msg = {}, params = {})", values.length, pattern, msg, Arrays.toString(params));
+        }
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        long start = startCheck();
+        check("isEachMatching", BulkChecks.failing(values, matching(pattern), true), start, msg, params);
+    }
+
+
     public void isTrue(boolean obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isTrue(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(!obj) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isTrue", obj, start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isTrue(boolean, String, Object...)
+     */
+    public void isTrue(boolean obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isTrue(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isTrue", obj, start, msg, params);
     }
 
     public void isFalse(boolean obj, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isFalse(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
-        if(obj) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isFalse", !obj, start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isFalse(boolean, String, Object...)
+     */
+    public void isFalse(boolean obj, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isFalse(obj = {}, msg = {}, params = {})", obj, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isFalse", !obj, start, msg, params);
     }
 
     public void isEqual(Object obj, Object other, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isEqual(obj = {}, other = {}, msg = {}, params = {})", obj, other, msg, Arrays.toString(params));
         }
-        if(!Objects.equals(obj, other)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isEqual", Objects.equals(obj, other), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isEqual(Object, Object, String, Object...)
+     */
+    public void isEqual(Object obj, Object other, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isEqual(obj = {}, other = {}, msg = {}, params = {})", obj, other, msg, Arrays.toString(params));
         }
+        long start = startCheck();
+        check("isEqual", Objects.equals(obj, other), start, msg, params);
     }
 
     public void isNotEqual(Object obj, Object other, String msg, Object ...params) {
         if(logger.isTraceEnabled()) {
             logger.trace("isNotEqual(obj = {}, other = {}, msg = {}, params = {})", obj, other, msg, Arrays.toString(params));
         }
-        if(Objects.equals(obj, other)) {
-            errors.add(MessageFormatter.arrayFormat(msg, params).getMessage());
+        long start = startCheck();
+        check("isNotEqual", !Objects.equals(obj, other), start, msg, params);
+    }
+
+    /**
+     * @since 1.4.0
+     * @see #isNotEqual(Object, Object, String, Object...)
+     */
+    public void isNotEqual(Object obj, Object other, MessageTemplate msg, Object ...params) {
+        if(logger.isTraceEnabled()) {
+            logger.trace("isNotEqual(obj = {}, other = {}, msg = {}, params = {})", obj, other, msg, Arrays.toString(params));
+        }
+        long start = startCheck();
+        check("isNotEqual", !Objects.equals(obj, other), start, msg, params);
+    }
+
+    private static final class PendingCheck {
+        private final Errors scope;
+        private final Future<Boolean> future;
+        private final long start;
+        private final String msg;
+        private final MessageTemplate template;
+        private final Object[] params;
+
+        private PendingCheck(Errors scope, Future<Boolean> future, long start, String msg, Object[] params) {
+            this.scope = scope;
+            this.future = future;
+            this.start = start;
+            this.msg = msg;
+            this.template = null;
+            this.params = params;
+        }
+
+        private PendingCheck(Errors scope, Future<Boolean> future, long start, MessageTemplate msg, Object[] params) {
+            this.scope = scope;
+            this.future = future;
+            this.start = start;
+            this.msg = msg.getPattern();
+            this.template = msg;
+            this.params = params;
+        }
+
+        private void check(boolean passed, String suffix) {
+            if(template != null) {
+                scope.check("isTrueAsync", passed, start, template, suffix, params);
+            } else {
+                scope.check("isTrueAsync", passed, start, msg, msg + suffix, params);
+            }
         }
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lightweight exception carrying the errors of an {@link Errors} instance; usable as {@link ExceptionProducer}
+ * through {@code ErrorsException::new}.
+ * <p>
+ * Instances do not fill in a stack trace and do not record suppressed exceptions, which makes throwing them as
+ * cheap as a regular return. Since they carry no thread specific state, a single immutable instance may also be
+ * thrown repeatedly. The errors list is kept as given without copying; {@link Errors#getErrors()} already returns an
+ * immutable snapshot.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public class ErrorsException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    private final transient List<String> errors;
+
+    /**
+     * Creates an exception without stack trace.
+     *
+     * @param message detail message
+     * @param errors error messages
+     * @throws NullPointerException if errors is {@code null}
+     */
+    public ErrorsException(String message, List<String> errors) {
+        this(message, errors, false);
+    }
+
+    /**
+     * Creates an exception for subclasses which may choose to fill in the stack trace.
+     *
+     * @param message detail message
+     * @param errors error messages
+     * @param writableStackTrace whether or not the stack trace should be writable
+     * @throws NullPointerException if errors is {@code null}
+     */
+    protected ErrorsException(String message, List<String> errors, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errors = Objects.requireNonNull(errors, "errors must not be null");
+    }
+
+    /**
+     * @return error messages; empty after deserialization
+     */
+    public List<String> getErrors() {
+        return errors == null ? Collections.emptyList() : errors;
+    }
+}
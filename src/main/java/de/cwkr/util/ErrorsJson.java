@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streaming JSON serialization of {@link Errors} without dependencies.
+ * <p>
+ * Messages are escaped and written straight to the target without building an intermediate tree or string:
+ * <pre>{"count":2,"errors":["one","two"]}</pre>
+ * Aggregating instances additionally write their aggregated errors:
+ * <pre>{"count":3,"errors":["one (3 occurrences)"],"aggregatedErrors":[{"template":"one","count":3}]}</pre>
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class ErrorsJson {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int BUFFER_SIZE = 8192;
+
+    private ErrorsJson() {
+    }
+
+    /**
+     * Serializes errors to a JSON string.
+     *
+     * @param errors errors to serialize
+     * @return JSON document
+     * @throws NullPointerException if errors is {@code null}
+     */
+    public static String toJson(Errors errors) {
+        StringBuilder sb = new StringBuilder(64);
+        try {
+            write(errors, sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes errors as JSON to an {@link Appendable} such as a {@link Writer} or {@link StringBuilder}.
+     *
+     * @param errors errors to serialize
+     * @param out target
+     * @throws IOException if writing fails
+     * @throws NullPointerException if errors or out is {@code null}
+     */
+    public static void write(Errors errors, Appendable out) throws IOException {
+        Objects.requireNonNull(errors, "errors must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        if (errors.isAggregating()) {
+            writeAggregating(errors, out);
+            return;
+        }
+        List<String> messages = errors.getErrors();
+        // a single snapshot keeps count and messages consistent while other threads record errors
+        int count = errors.isRetaining() ? messages.size() : errors.countErrors();
+        out.append("{\"count\":").append(Integer.toString(count)).append(",\"errors\":[");
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            writeString(messages.get(i), out);
+        }
+        out.append("]}");
+    }
+
+    /**
+     * Writes errors as UTF-8 encoded JSON to an {@link OutputStream}; the stream is neither flushed nor closed.
+     *
+     * @param errors errors to serialize
+     * @param out target
+     * @throws IOException if writing fails
+     * @throws NullPointerException if errors or out is {@code null}
+     */
+    public static void write(Errors errors, OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out must not be null");
+        Utf8Appendable utf8 = new Utf8Appendable(out);
+        write(errors, utf8);
+        utf8.flush();
+    }
+
+    /**
+     * Writes an aggregating instance from a single snapshot of its aggregated errors and their counts, so the total
+     * count, the summaries and the aggregated errors agree.
+     */
+    private static void writeAggregating(final Errors errors, final Appendable out) throws IOException {
+        AggregatedError[] aggregatedErrors = errors.getAggregatedErrors().toArray(new AggregatedError[0]);
+        long[] counts = new long[aggregatedErrors.length];
+        long total = 0;
+        for (int i = 0; i < aggregatedErrors.length; i++) {
+            counts[i] = aggregatedErrors[i].getCount();
+            total += counts[i];
+        }
+        out.append("{\"count\":").append(Long.toString(total)).append(",\"errors\":[");
+        for (int i = 0; i < aggregatedErrors.length; i++) {
+            out.append(i > 0 ? ",\"" : "\"");
+            writeChars(aggregatedErrors[i].getMessage(), out);
+            if (counts[i] > 1) {
+                out.append(" (").append(Long.toString(counts[i])).append(" occurrences)");
+            }
+            out.append('"');
+        }
+        out.append("],\"aggregatedErrors\":[");
+        for (int i = 0; i < aggregatedErrors.length; i++) {
+            out.append(i > 0 ? ",{\"template\":" : "{\"template\":");
+            writeString(aggregatedErrors[i].getTemplate(), out);
+            out.append(",\"count\":").append(Long.toString(counts[i])).append('}');
+        }
+        out.append("]}");
+    }
+
+    /**
+     * Writes a JSON string literal including the surrounding quotes.
+     *
+     * @param value string to write
+     * @param out target
+     * @throws IOException if writing fails
+     */
+    static void writeString(CharSequence value, Appendable out) throws IOException {
+        out.append('"');
+        writeChars(value, out);
+        out.append('"');
+    }
+
+    private static void writeChars(final CharSequence value, final Appendable out) throws IOException {
+        int length = value.length();
+        int unescaped = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= ' ' && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            if (i > unescaped) {
+                writeRange(value, unescaped, i, out);
+            }
+            writeEscaped(c, out);
+            unescaped = i + 1;
+        }
+        if (length > unescaped) {
+            writeRange(value, unescaped, length, out);
+        }
+    }
+
+    /**
+     * Writes a range of characters without creating a substring, which {@link Writer#append(CharSequence, int, int)}
+     * and most other {@link Appendable}s would do.
+     */
+    private static void writeRange(final CharSequence value, final int start, final int end, final Appendable out)
+        throws IOException {
+        if (out instanceof Writer && value instanceof String) {
+            ((Writer) out).write((String) value, start, end - start);
+        } else if (out instanceof StringBuilder || out instanceof Utf8Appendable) {
+            out.append(value, start, end);
+        } else {
+            for (int i = start; i < end; i++) {
+                out.append(value.charAt(i));
+            }
+        }
+    }
+
+    private static void writeEscaped(final char c, final Appendable out) throws IOException {
+        switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            case '\b':
+                out.append("\\b");
+                break;
+            case '\f':
+                out.append("\\f");
+                break;
+            default:
+                out.append("\\u")
+                   .append(HEX[c >> 12 & 0xF])
+                   .append(HEX[c >> 8 & 0xF])
+                   .append(HEX[c >> 4 & 0xF])
+                   .append(HEX[c & 0xF]);
+                break;
+        }
+    }
+
+    /**
+     * Buffered UTF-8 encoder writing to an {@link OutputStream}.
+     */
+    private static final class Utf8Appendable implements Appendable {
+        private static final int MAX_BYTES_PER_CHAR = 4;
+        private static final char MAX_ONE_BYTE_CHAR = 0x7F;
+        private static final char MAX_TWO_BYTE_CHAR = 0x7FF;
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private char highSurrogate;
+
+        private Utf8Appendable(final OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) throws IOException {
+            if (position > buffer.length - MAX_BYTES_PER_CHAR) {
+                flushBuffer();
+            }
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    writeCodePoint(Character.toCodePoint(high, c));
+                    return this;
+                }
+                // unpaired surrogate
+                buffer[position++] = '?';
+            }
+            if (c <= MAX_ONE_BYTE_CHAR) {
+                buffer[position++] = (byte) c;
+            } else if (c <= MAX_TWO_BYTE_CHAR) {
+                buffer[position++] = (byte) (0xC0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            }
+            return this;
+        }
+
+        private void writeCodePoint(final int codePoint) {
+            buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+            buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+
+        private void flushBuffer() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        private void flush() throws IOException {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                if (position == buffer.length) {
+                    flushBuffer();
+                }
+                buffer[position++] = '?';
+            }
+            if (position > 0) {
+                flushBuffer();
+            }
+        }
+    }
+}
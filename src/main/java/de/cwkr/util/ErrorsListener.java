@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+/**
+ * Listener notified by {@link Errors} on every check and every recorded error; registered using
+ * {@link Errors#addListener(ErrorsListener)}. Implementations must be thread-safe and should return quickly, as
+ * they are called on the validating thread.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see ErrorsMetrics
+ */
+public interface ErrorsListener {
+    /**
+     * Called after a check has been evaluated.
+     *
+     * @param check name of the check method, e.g. {@code "isNotBlank"}
+     * @param msg message template identifying the rule
+     * @param passed {@code true} if the check passed
+     * @param nanos time spent evaluating the check in nanoseconds
+     */
+    default void onCheck(String check, String msg, boolean passed, long nanos) {
+    }
+
+    /**
+     * Called when an error is recorded, either by a failing check or by {@link Errors#addError(String)}.
+     *
+     * @param msg message template
+     * @param params message parameters
+     */
+    default void onError(String msg, Object[] params) {
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * {@link ErrorsListener} collecting check and failure counts as well as the time spent per rule, using
+ * {@link LongAdder} counters; Thread-safe. A rule is identified by its message template, so a single instance can be
+ * registered with many {@link Errors} instances and read periodically to feed a metrics system. The number of
+ * tracked rules is limited, so templates containing dynamic data cannot grow the metrics without bound; checks of
+ * rules beyond the limit are counted under {@link #OTHER_RULES}.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class ErrorsMetrics implements ErrorsListener {
+    /**
+     * Key of the rule collecting the checks of all rules beyond the limit.
+     */
+    public static final String OTHER_RULES = "<other>";
+    private static final int DEFAULT_MAX_RULES = 1000;
+    private final ConcurrentMap<String, Rule> rules = new ConcurrentHashMap<>();
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final int maxRules;
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Creates an instance tracking at most 1000 rules.
+     */
+    public ErrorsMetrics() {
+        this(DEFAULT_MAX_RULES);
+    }
+
+    /**
+     * @param maxRules maximum number of rules tracked separately
+     * @throws IllegalArgumentException if maxRules is not positive
+     */
+    public ErrorsMetrics(int maxRules) {
+        Validate.isTrue(maxRules > 0, "maxRules must be positive");
+        this.maxRules = maxRules;
+    }
+
+    @Override
+    public void onCheck(String check, String msg, boolean passed, long nanos) {
+        checks.increment();
+        if (!passed) {
+            failures.increment();
+        }
+        Rule rule = rules.get(msg);
+        if (rule == null) {
+            rule = tracked.get() < maxRules ? rules.computeIfAbsent(msg, this::track) : null;
+            if (rule == null) {
+                rule = rules.computeIfAbsent(OTHER_RULES, Rule::new);
+            }
+        }
+        rule.record(passed, nanos);
+    }
+
+    private Rule track(final String msg) {
+        return tracked.getAndIncrement() < maxRules ? new Rule(msg) : null;
+    }
+
+    @Override
+    public void onError(String msg, Object[] params) {
+        errors.increment();
+    }
+
+    /**
+     * @return number of evaluated checks
+     */
+    public long getCheckCount() {
+        return checks.sum();
+    }
+
+    /**
+     * @return number of failed checks
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return number of recorded errors including errors added without a check
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * @return live view of the metrics per rule keyed by message template, including {@link #OTHER_RULES} once the
+     *         limit has been reached
+     */
+    public Map<String, Rule> getRules() {
+        return unmodifiableMap(rules);
+    }
+
+    /**
+     * Resets all counters and forgets all rules.
+     */
+    public void reset() {
+        rules.clear();
+        tracked.set(0);
+        checks.reset();
+        failures.reset();
+        errors.reset();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("checks", checks.sum())
+                                        .append("failures", failures.sum())
+                                        .append("errors", errors.sum())
+                                        .build();
+    }
+
+    /**
+     * Metrics of a single rule.
+     */
+    public static final class Rule {
+        private final String msg;
+        private final LongAdder checks = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private Rule(final String msg) {
+            this.msg = msg;
+        }
+
+        private void record(final boolean passed, final long nanos) {
+            checks.increment();
+            if (!passed) {
+                failures.increment();
+            }
+            this.nanos.add(nanos);
+        }
+
+        /**
+         * @return message template identifying the rule
+         */
+        public String getMsg() {
+            return msg;
+        }
+
+        /**
+         * @return number of evaluated checks
+         */
+        public long getCheckCount() {
+            return checks.sum();
+        }
+
+        /**
+         * @return number of failed checks
+         */
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * @return total time spent evaluating the checks in nanoseconds
+         */
+        public long getTotalNanos() {
+            return nanos.sum();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).append("msg", msg)
+                                            .append("checks", checks.sum())
+                                            .append("failures", failures.sum())
+                                            .append("nanos", nanos.sum())
+                                            .build();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of reusable {@link Errors} instances for request-scoped validation; Thread-safe.
+ * <p>
+ * {@link #release(Errors)} resets an instance, removes its listeners and completes its subscriptions before its
+ * storage is handed out again by {@link #acquire()}. Every acquire returns a new lightweight handle, so a reference
+ * kept after the release fails with an {@link IllegalStateException} on every use, even while another borrower works
+ * with the same storage. Lists returned by {@link Errors#getErrors()} before the release remain unchanged.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class ErrorsPool {
+    private static final Logger logger = LoggerFactory.getLogger(ErrorsPool.class);
+    private final BlockingQueue<Errors> pool;
+    private final Supplier<Errors> factory;
+
+    /**
+     * Creates a pool of plain {@link Errors} instances.
+     *
+     * @param capacity maximum number of idle instances kept by the pool
+     * @throws IllegalArgumentException if capacity is less than one
+     */
+    public ErrorsPool(int capacity) {
+        this(capacity, Errors::new);
+    }
+
+    /**
+     * Creates a pool of {@link Errors} instances created by the given factory, e.g. {@link Errors#aggregating()}.
+     *
+     * @param capacity maximum number of idle instances kept by the pool
+     * @param factory factory creating new instances
+     * @throws IllegalArgumentException if capacity is less than one
+     * @throws NullPointerException if factory is {@code null}
+     */
+    public ErrorsPool(int capacity, Supplier<Errors> factory) {
+        Validate.isTrue(capacity > 0, "capacity must be greater than zero");
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.factory = Objects.requireNonNull(factory, "factory must not be null");
+    }
+
+    /**
+     * Takes an idle instance from the pool or creates a new one if the pool is empty.
+     *
+     * @return instance without errors
+     */
+    public Errors acquire() {
+        logger.trace("acquire()");
+        Errors errors = pool.poll();
+        if (errors == null) {
+            return Objects.requireNonNull(factory.get(), "factory must not return null");
+        }
+        return errors.lease();
+    }
+
+    /**
+     * Resets an instance and returns it to the pool; the instance is dropped if the pool is full.
+     *
+     * @param errors instance acquired from this pool
+     * @throws NullPointerException if errors is {@code null}
+     * @throws IllegalStateException if errors has already been released
+     * @throws IllegalArgumentException if errors is a scoped view, see {@link Errors#scope(String)}
+     */
+    public void release(Errors errors) {
+        logger.trace("release(errors = {})", errors);
+        Objects.requireNonNull(errors, "errors must not be null");
+        Validate.isTrue(!errors.isScoped(), "scoped views cannot be released");
+        errors.reset();
+        pool.offer(errors.markReleased());
+    }
+
+    /**
+     * @return number of idle instances
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("size", pool.size())
+                                        .build();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+/**
+ * Receiver of errors pushed by {@link Errors} as they occur; registered using
+ * {@link Errors#subscribe(ErrorsSubscriber)}. Modelled after {@code java.util.concurrent.Flow.Subscriber}: errors
+ * are only delivered as requested through {@link ErrorsSubscription#request(long)}.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public interface ErrorsSubscriber {
+    /**
+     * Called once before any other method.
+     *
+     * @param subscription subscription used to request errors or to cancel
+     */
+    void onSubscribe(ErrorsSubscription subscription);
+
+    /**
+     * Called for each requested error, either on the validating thread or on the thread requesting errors; never
+     * concurrently.
+     *
+     * @param error formatted error message
+     */
+    void onNext(String error);
+
+    /**
+     * Called once after all errors have been delivered, following {@link Errors#completeSubscriptions()}.
+     */
+    default void onComplete() {
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Link between an {@link Errors} instance and an {@link ErrorsSubscriber}; Thread-safe.
+ * <p>
+ * Errors are buffered up to the buffer size given on subscription; once the buffer is full, the validating thread
+ * blocks until the subscriber requests more errors or cancels. Deliveries are serialized, so the subscriber is never
+ * called concurrently.
+ * <p>
+ * Errors which cannot be buffered because the validating thread is interrupted while waiting are counted as
+ * discarded, see {@link #getDiscardedCount()}. A subscriber throwing an exception from
+ * {@link ErrorsSubscriber#onNext(String)} is cancelled; the exception is logged and never reaches the validating
+ * thread.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class ErrorsSubscription {
+    private static final Logger logger = LoggerFactory.getLogger(ErrorsSubscription.class);
+    private final Errors errors;
+    private final ErrorsSubscriber subscriber;
+    private final BlockingQueue<String> buffer;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong discardedCount = new AtomicLong();
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private boolean terminated;
+
+    ErrorsSubscription(final Errors errors, final ErrorsSubscriber subscriber, final int bufferSize) {
+        this.errors = errors;
+        this.subscriber = subscriber;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Adds to the number of errors the subscriber is willing to receive.
+     *
+     * @param n number of additional errors, {@link Long#MAX_VALUE} for unbounded demand
+     * @throws IllegalArgumentException if n is not positive
+     */
+    public void request(long n) {
+        Validate.isTrue(n > 0, "n must be greater than zero");
+        long current;
+        long updated;
+        do {
+            current = demand.get();
+            updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!demand.compareAndSet(current, updated));
+        drain();
+    }
+
+    /**
+     * Stops the delivery of errors and discards buffered errors; blocked validating threads resume.
+     */
+    public void cancel() {
+        cancelled = true;
+        buffer.clear();
+        errors.unsubscribe(this);
+    }
+
+    /**
+     * @return {@code true} if this subscription has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return number of errors not delivered because the validating thread was interrupted while the buffer was full
+     */
+    public long getDiscardedCount() {
+        return discardedCount.get();
+    }
+
+    void start() {
+        subscriber.onSubscribe(this);
+    }
+
+    void publish(final String error) {
+        if (cancelled) {
+            return;
+        }
+        try {
+            buffer.put(error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardedCount.incrementAndGet();
+            return;
+        }
+        if (cancelled) {
+            buffer.clear();
+            return;
+        }
+        drain();
+    }
+
+    void complete() {
+        completed = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            deliver();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver() {
+        while (!cancelled && demand.get() > 0) {
+            String error = buffer.poll();
+            if (error == null) {
+                break;
+            }
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            if (!deliver(error)) {
+                break;
+            }
+        }
+        if (completed && !cancelled && !terminated && buffer.isEmpty()) {
+            terminated = true;
+            subscriber.onComplete();
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // subscriber code may throw anything
+    private boolean deliver(final String error) {
+        try {
+            subscriber.onNext(error);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Cancelling subscription of {}, onNext failed", subscriber, e);
+            cancel();
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("subscriber", subscriber)
+                                        .append("buffered", buffer.size())
+                                        .append("demand", demand.get())
+                                        .append("discarded", discardedCount.get())
+                                        .append("cancelled", cancelled)
+                                        .build();
+    }
+}
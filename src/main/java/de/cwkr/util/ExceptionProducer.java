@@ -22,6 +22,7 @@ import java.util.List;
  *
  * @param <T> runtime exception type
  * @author Christian Winkler
+ * @see ErrorsException
  */
 @FunctionalInterface
 public interface ExceptionProducer<T extends RuntimeException> {
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Streaming validation of line-delimited files such as CSV exports.
+ * <p>
+ * The file is memory-mapped in chunks of about 64 MiB, split at line boundaries. Each line is handed to a
+ * {@link RecordCheck} as a {@link CharSequence} view on the mapped bytes without copying; lines containing non-ASCII
+ * bytes are decoded as UTF-8 first. Errors of a line are prefixed with its line number, e.g.
+ * {@code "line 12: must not be blank"}. Heap use only depends on the chunk size and the number of errors, not on the
+ * size of the file: the errors of a chunk are merged as soon as all preceding chunks are done. Mappings are not
+ * released explicitly but by the garbage collector once unreachable, so a record kept by a check beyond its call
+ * never refers to unmapped memory.
+ * <p>
+ * A chunk always ends at a line boundary, so a line crossing the end of a chunk extends that chunk; a file with a
+ * single line of 1 GiB is mapped as one chunk of 1 GiB. Validation fails with an {@link IOException} if a chunk would
+ * exceed 2 GiB, the limit of a single mapping.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class FileValidation {
+    private static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+    private static final int SCAN_BUFFER_SIZE = 8192;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private FileValidation() {
+    }
+
+    /**
+     * Validates all lines of a file sequentially.
+     *
+     * @param file file to validate
+     * @param check check applied to every line
+     * @return errors tagged with line numbers
+     * @throws IOException if reading the file fails
+     * @throws NullPointerException if file or check is {@code null}
+     */
+    public static Errors validateLines(Path file, RecordCheck check) throws IOException {
+        return validateLines(file, check, DEFAULT_CHUNK_SIZE, false);
+    }
+
+    /**
+     * Validates all lines of a file processing chunks in parallel using the common fork-join pool; the check must be
+     * thread-safe. Errors are reported in line order.
+     *
+     * @param file file to validate
+     * @param check check applied to every line
+     * @return errors tagged with line numbers
+     * @throws IOException if reading the file fails
+     * @throws NullPointerException if file or check is {@code null}
+     */
+    public static Errors validateLinesParallel(Path file, RecordCheck check) throws IOException {
+        return validateLines(file, check, DEFAULT_CHUNK_SIZE, true);
+    }
+
+    static Errors validateLines(final Path file, final RecordCheck check, final int chunkSize,
+                                final boolean parallel) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(check, "check must not be null");
+        Validate.isTrue(chunkSize > 0, "chunkSize must be greater than zero");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel, chunkSize);
+            ChunkMerger merger = new ChunkMerger(bounds.length - 1);
+            IntStream chunks = IntStream.range(0, bounds.length - 1);
+            if (parallel) {
+                chunks = chunks.parallel();
+            }
+            chunks.forEach(i -> merger.completed(i, validateChunk(channel, bounds[i], bounds[i + 1], check)));
+            return merger.errors;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long[] chunkBounds(final FileChannel channel, final int chunkSize) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long start = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, buffer);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("line crossing offset " + (start + chunkSize) + " makes its chunk exceed "
+                    + Integer.MAX_VALUE + " bytes");
+            }
+            bounds.add(end);
+            start = end;
+        }
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static long nextLineStart(final FileChannel channel, final long from, final ByteBuffer buffer)
+        throws IOException {
+        long position = from - 1;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == LF) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static ChunkResult validateChunk(final FileChannel channel, final long start, final long end,
+                                             final RecordCheck check) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ChunkResult result = new ChunkResult();
+        Errors lineErrors = new Errors();
+        ByteSequence record = new ByteSequence(buffer);
+        int limit = buffer.limit();
+        int lineStart = 0;
+        boolean ascii = true;
+        for (int i = 0; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == LF) {
+                checkLine(record, lineStart, i, ascii, check, lineErrors, result);
+                lineStart = i + 1;
+                ascii = true;
+            } else {
+                ascii &= b >= 0;
+            }
+        }
+        if (lineStart < limit) {
+            checkLine(record, lineStart, limit, ascii, check, lineErrors, result);
+        }
+        return result;
+    }
+
+    private static void checkLine(final ByteSequence record, final int start, final int end, final boolean ascii,
+                                  final RecordCheck check, final Errors lineErrors, final ChunkResult result) {
+        int lineEnd = end > start && record.buffer.get(end - 1) == CR ? end - 1 : end;
+        if (ascii) {
+            record.reset(start, lineEnd - start);
+            check.check(record, lineErrors);
+        } else {
+            byte[] bytes = new byte[lineEnd - start];
+            ByteBuffer slice = record.buffer.duplicate();
+            slice.position(start);
+            slice.get(bytes);
+            check.check(new String(bytes, StandardCharsets.UTF_8), lineErrors);
+        }
+        if (lineErrors.hasErrors()) {
+            result.add(lineErrors.getErrors());
+            lineErrors.reset();
+        }
+        result.lineCount++;
+    }
+
+    private static final class ChunkResult {
+        private final List<Long> lines = new ArrayList<>();
+        private final List<List<String>> messages = new ArrayList<>();
+        private long lineCount;
+
+        private void add(final List<String> lineMessages) {
+            lines.add(lineCount);
+            messages.add(lineMessages);
+        }
+
+        private void addTo(final Errors errors, final long firstLine) {
+            for (int i = 0; i < lines.size(); i++) {
+                long line = firstLine + lines.get(i);
+                for (String message : messages.get(i)) {
+                    errors.addError("line " + line + ": " + message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges chunk results in file order as soon as all preceding chunks are done, so only the results of chunks
+     * completed out of order are kept.
+     */
+    private static final class ChunkMerger {
+        private final Errors errors = new Errors();
+        private final ChunkResult[] pending;
+        private int next;
+        private long firstLine = 1;
+
+        private ChunkMerger(final int chunkCount) {
+            this.pending = new ChunkResult[chunkCount];
+        }
+
+        private synchronized void completed(final int chunk, final ChunkResult result) {
+            pending[chunk] = result;
+            while (next < pending.length && pending[next] != null) {
+                pending[next].addTo(errors, firstLine);
+                firstLine += pending[next].lineCount;
+                pending[next++] = null;
+            }
+        }
+    }
+
+    /**
+     * Reusable ASCII {@link CharSequence} view on a range of a byte buffer.
+     */
+    private static final class ByteSequence implements CharSequence {
+        private final ByteBuffer buffer;
+        private int offset;
+        private int length;
+
+        private ByteSequence(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private ByteSequence(final ByteBuffer buffer, final int offset, final int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private void reset(final int offset, final int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+            }
+            return (char) buffer.get(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("Start: " + start + ", End: " + end + ", Length: " + length);
+            }
+            return new ByteSequence(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer.get(offset + i);
+            }
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
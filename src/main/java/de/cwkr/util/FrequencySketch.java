@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+/**
+ * Count-min sketch estimating how often keys have been used, the admission filter of the W-TinyLFU policy of
+ * {@link CacheMap}. Not thread-safe.
+ * <p>
+ * Each {@code long} holds sixteen 4-bit counters; a key increments four counters chosen by independent hashes and
+ * its frequency is the minimum of them. Once the number of increments reaches ten times the table length all
+ * counters are halved, so the sketch follows changes of the working set.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private static final int SAMPLE_FACTOR = 10;
+    private long[] table;
+    private int sampleSize;
+    private int additions;
+
+    FrequencySketch(final long capacity) {
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Grows the table to hold at least the given number of keys, discarding all counts.
+     */
+    void ensureCapacity(final long capacity) {
+        int length = (int) Math.min(Integer.highestOneBit(Integer.MAX_VALUE), Math.max(8, capacity));
+        length = Integer.highestOneBit(length - 1) << 1;
+        if (table == null || table.length < length) {
+            table = new long[length];
+            sampleSize = (int) Math.min(Integer.MAX_VALUE, (long) length * SAMPLE_FACTOR);
+            additions = 0;
+        }
+    }
+
+    int capacity() {
+        return table.length;
+    }
+
+    int frequency(final int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int shift = (start + i) << 2;
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> shift) & MAX_COUNT));
+        }
+        return frequency;
+    }
+
+    void increment(final int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int shift = (start + i) << 2;
+            if (((table[index] >>> shift) & MAX_COUNT) < MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(final int hash, final int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & (table.length - 1);
+    }
+
+    private static int spread(final int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
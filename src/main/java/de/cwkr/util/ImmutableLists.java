@@ -0,0 +1,425 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable {@link List} implementations returned by {@link Lists}: dedicated classes for zero, one and two elements
+ * and an implementation backed by a trusted array for more elements. Elements are validated while being copied.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ImmutableLists {
+    private static final int MAX_SPECIALIZED_SIZE = 2;
+    private static final String NULL_ARRAY_ELEMENT = "The validated array contains null element at index: ";
+    private static final String NULL_COLLECTION_ELEMENT = "The validated collection contains null element at index: ";
+    @SuppressWarnings("PMD.LooseCoupling") // class literals of the implementations known to copy in toArray
+    private static final Set<Class<?>> FRESH_ARRAY_COLLECTIONS = new HashSet<>(Arrays.asList(
+        ArrayList.class, LinkedList.class, ArrayDeque.class, PriorityQueue.class, HashSet.class, LinkedHashSet.class,
+        TreeSet.class, CopyOnWriteArrayList.class, CopyOnWriteArraySet.class, ConcurrentLinkedQueue.class,
+        ConcurrentLinkedDeque.class));
+
+    private ImmutableLists() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> List<E> of() {
+        return (List<E>) List0.INSTANCE;
+    }
+
+    static <E> List<E> of(final E element) {
+        return new List1<>(Objects.requireNonNull(element, "The validated object is null"));
+    }
+
+    static <E> List<E> copyOf(final E[] elements) {
+        Objects.requireNonNull(elements, "elements must not be null");
+        if (elements.length <= MAX_SPECIALIZED_SIZE) {
+            return fromArray(validate(elements, NULL_ARRAY_ELEMENT));
+        }
+        Object[] copy = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            E element = elements[i];
+            if (element == null) {
+                throw new IllegalArgumentException(NULL_ARRAY_ELEMENT + i);
+            }
+            copy[i] = element;
+        }
+        return new ListN<>(copy);
+    }
+
+    static <E> List<E> copyOf(final Collection<? extends E> collection) {
+        Objects.requireNonNull(collection, "collection must not be null");
+        if (collection instanceof AbstractImmutableList) {
+            @SuppressWarnings("unchecked")
+            List<E> list = (List<E>) collection;
+            return list;
+        }
+        return fromArray(validate(toArray(collection), NULL_COLLECTION_ELEMENT));
+    }
+
+    /**
+     * Returns the elements of a collection in an array owned by the caller. The result of
+     * {@link Collection#toArray()} is only used as it is for JDK collections known to return a new array; any other
+     * implementation might keep a reference to the array it returns, so its result is copied.
+     */
+    static Object[] toArray(final Collection<?> collection) {
+        Object[] elements = collection.toArray();
+        if (FRESH_ARRAY_COLLECTIONS.contains(collection.getClass()) || collection instanceof AbstractImmutableList
+            || collection instanceof ImmutableOrderedSet) {
+            return elements;
+        }
+        return Arrays.copyOf(elements, elements.length, Object[].class);
+    }
+
+    private static Object[] validate(final Object[] elements, final String nullMessage) {
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException(nullMessage + i);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Wraps an array of non-null elements not modified afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> List<E> fromArray(final Object[] elements) {
+        switch (elements.length) {
+            case 0:
+                return of();
+            case 1:
+                return new List1<>((E) elements[0]);
+            case 2:
+                return new List2<>((E) elements[0], (E) elements[1]);
+            default:
+                return new ListN<>(elements);
+        }
+    }
+
+    abstract static class AbstractImmutableList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean add(final E e) {
+            throw uoe();
+        }
+
+        @Override
+        public void add(final int index, final E element) {
+            throw uoe();
+        }
+
+        @Override
+        public boolean addAll(final Collection<? extends E> c) {
+            throw uoe();
+        }
+
+        @Override
+        public boolean addAll(final int index, final Collection<? extends E> c) {
+            throw uoe();
+        }
+
+        @Override
+        public E set(final int index, final E element) {
+            throw uoe();
+        }
+
+        @Override
+        public E remove(final int index) {
+            throw uoe();
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            throw uoe();
+        }
+
+        @Override
+        public boolean removeAll(final Collection<?> c) {
+            throw uoe();
+        }
+
+        @Override
+        public boolean retainAll(final Collection<?> c) {
+            throw uoe();
+        }
+
+        @Override
+        public boolean removeIf(final Predicate<? super E> filter) {
+            throw uoe();
+        }
+
+        @Override
+        public void replaceAll(final UnaryOperator<E> operator) {
+            throw uoe();
+        }
+
+        @Override
+        public void sort(final Comparator<? super E> c) {
+            throw uoe();
+        }
+
+        @Override
+        public void clear() {
+            throw uoe();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        static IndexOutOfBoundsException outOfBounds(final int index, final int size) {
+            return new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        private static UnsupportedOperationException uoe() {
+            return new UnsupportedOperationException("list is immutable");
+        }
+    }
+
+    static final class List0<E> extends AbstractImmutableList<E> {
+        private static final long serialVersionUID = 1L;
+        static final List0<Object> INSTANCE = new List0<>();
+
+        private List0() {
+        }
+
+        @Override
+        public E get(final int index) {
+            throw outOfBounds(index, 0);
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(final Object o) {
+            return -1;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return new Object[0];
+        }
+
+        @Override
+        public void forEach(final Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    static final class List1<E> extends AbstractImmutableList<E> {
+        private static final long serialVersionUID = 1L;
+        private final E e0;
+
+        List1(final E e0) {
+            this.e0 = e0;
+        }
+
+        @Override
+        public E get(final int index) {
+            if (index != 0) {
+                throw outOfBounds(index, 1);
+            }
+            return e0;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            return o != null && o.equals(e0) ? 0 : -1;
+        }
+
+        @Override
+        public int lastIndexOf(final Object o) {
+            return indexOf(o);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return new Object[] {e0};
+        }
+
+        @Override
+        public void forEach(final Consumer<? super E> action) {
+            action.accept(e0);
+        }
+    }
+
+    static final class List2<E> extends AbstractImmutableList<E> {
+        private static final long serialVersionUID = 1L;
+        private final E e0;
+        private final E e1;
+
+        List2(final E e0, final E e1) {
+            this.e0 = e0;
+            this.e1 = e1;
+        }
+
+        @Override
+        public E get(final int index) {
+            if (index == 0) {
+                return e0;
+            }
+            if (index == 1) {
+                return e1;
+            }
+            throw outOfBounds(index, 2);
+        }
+
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            if (o == null) {
+                return -1;
+            }
+            if (o.equals(e0)) {
+                return 0;
+            }
+            return o.equals(e1) ? 1 : -1;
+        }
+
+        @Override
+        public int lastIndexOf(final Object o) {
+            if (o == null) {
+                return -1;
+            }
+            if (o.equals(e1)) {
+                return 1;
+            }
+            return o.equals(e0) ? 0 : -1;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return new Object[] {e0, e1};
+        }
+
+        @Override
+        public void forEach(final Consumer<? super E> action) {
+            action.accept(e0);
+            action.accept(e1);
+        }
+    }
+
+    static final class ListN<E> extends AbstractImmutableList<E> {
+        private static final long serialVersionUID = 1L;
+        private final Object[] elements;
+
+        /**
+         * @param elements trusted array of non-null elements, not modified afterwards
+         */
+        ListN(final Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(final int index) {
+            if (index < 0 || index >= elements.length) {
+                throw outOfBounds(index, elements.length);
+            }
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            if (o != null) {
+                for (int i = 0; i < elements.length; i++) {
+                    if (o.equals(elements[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(final Object o) {
+            if (o != null) {
+                for (int i = elements.length - 1; i >= 0; i--) {
+                    if (o.equals(elements[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(elements, elements.length, Object[].class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(final Consumer<? super E> action) {
+            for (Object element : elements) {
+                action.accept((E) element);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Immutable insertion-ordered {@link Map} returned by {@link Maps}, storing keys and values alternately in a single
+ * array. Maps with more than {@link OpenAddressing#LINEAR_SCAN_MAX_SIZE} entries add an open-addressing index, smaller
+ * maps are searched linearly. Keys must not be {@code null}, values may be.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ImmutableOrderedMap<K, V> extends AbstractMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final ImmutableOrderedMap<Object, Object> EMPTY = new ImmutableOrderedMap<>(new Object[0], null);
+    private final Object[] table;
+    private final int[] index;
+
+    private ImmutableOrderedMap(final Object[] table, final int[] index) {
+        this.table = table;
+        this.index = index;
+    }
+
+    /**
+     * Creates a map from alternating keys and values. For duplicate keys the last value wins while the entry keeps
+     * the position of the first occurrence, as with {@link java.util.LinkedHashMap}.
+     *
+     * @param kv trusted array of alternating non-null keys and values, reused as storage
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> Map<K, V> fromTrustedArray(final Object[] kv) {
+        int n = kv.length / 2;
+        if (n == 0) {
+            return (Map<K, V>) EMPTY;
+        }
+        int[] index = n > OpenAddressing.LINEAR_SCAN_MAX_SIZE ? OpenAddressing.newIndex(n) : null;
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            Object key = kv[2 * i];
+            Object value = kv[2 * i + 1];
+            int position = find(kv, size, index, key);
+            if (position >= 0) {
+                kv[2 * position + 1] = value;
+            } else {
+                kv[2 * size] = key;
+                kv[2 * size + 1] = value;
+                if (index != null) {
+                    insert(index, key, size);
+                }
+                size++;
+            }
+        }
+        Object[] table = kv;
+        if (size < n) {
+            table = new Object[2 * size];
+            System.arraycopy(kv, 0, table, 0, table.length);
+        }
+        return new ImmutableOrderedMap<>(table, index);
+    }
+
+    private static int find(final Object[] table, final int size, final int[] index, final Object key) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(table[2 * i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int slot = OpenAddressing.slot(key, index);
+        int entry = index[slot];
+        while (entry != 0) {
+            if (key.equals(table[2 * (entry - 1)])) {
+                return entry - 1;
+            }
+            slot = OpenAddressing.next(slot, index);
+            entry = index[slot];
+        }
+        return -1;
+    }
+
+    private static void insert(final int[] index, final Object key, final int position) {
+        int slot = OpenAddressing.slot(key, index);
+        while (index[slot] != 0) {
+            slot = OpenAddressing.next(slot, index);
+        }
+        index[slot] = position + 1;
+    }
+
+    private int find(final Object key) {
+        return key == null ? -1 : find(table, table.length / 2, index, key);
+    }
+
+    @Override
+    public int size() {
+        return table.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        for (int i = 1; i < table.length; i += 2) {
+            if (Objects.equals(value, table[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        int position = find(key);
+        return position < 0 ? null : (V) table[2 * position + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final Object key, final V defaultValue) {
+        int position = find(key);
+        return position < 0 ? defaultValue : (V) table[2 * position + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < table.length; i += 2) {
+            action.accept((K) table[i], (V) table[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return table.length / 2;
+            }
+        };
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        throw uoe();
+    }
+
+    @Override
+    public V remove(final Object key) {
+        throw uoe();
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> m) {
+        throw uoe();
+    }
+
+    @Override
+    public void clear() {
+        throw uoe();
+    }
+
+    @Override
+    public void replaceAll(final BiFunction<? super K, ? super V, ? extends V> function) {
+        throw uoe();
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        throw uoe();
+    }
+
+    @Override
+    public V replace(final K key, final V value) {
+        throw uoe();
+    }
+
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        throw uoe();
+    }
+
+    @Override
+    public V computeIfPresent(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw uoe();
+    }
+
+    @Override
+    public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw uoe();
+    }
+
+    @Override
+    public V merge(final K key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw uoe();
+    }
+
+    private static UnsupportedOperationException uoe() {
+        return new UnsupportedOperationException("map is immutable");
+    }
+
+    private Object readResolve() {
+        return table.length == 0 ? EMPTY : this;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            return next < table.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (next >= table.length) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = new SimpleImmutableEntry<>((K) table[next], (V) table[next + 1]);
+            next += 2;
+            return entry;
+        }
+    }
+}
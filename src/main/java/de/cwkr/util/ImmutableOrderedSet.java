@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable insertion-ordered {@link Set} returned by {@link Sets}, storing its elements in a dense array. Sets with
+ * more than {@link OpenAddressing#LINEAR_SCAN_MAX_SIZE} elements add an open-addressing index, smaller sets are
+ * searched linearly.
+ *
+ * @param <E> element type
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class ImmutableOrderedSet<E> extends AbstractSet<E> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final ImmutableOrderedSet<Object> EMPTY = new ImmutableOrderedSet<>(new Object[0], null);
+    private final Object[] elements;
+    private final int[] index;
+
+    private ImmutableOrderedSet(final Object[] elements, final int[] index) {
+        this.elements = elements;
+        this.index = index;
+    }
+
+    /**
+     * Creates a set keeping the first occurrence of duplicate elements, as with {@link java.util.LinkedHashSet}.
+     *
+     * @param elements trusted array of non-null elements, reused as storage
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Set<E> fromTrustedArray(final Object[] elements) {
+        int n = elements.length;
+        if (n == 0) {
+            return (Set<E>) EMPTY;
+        }
+        int[] index = n > OpenAddressing.LINEAR_SCAN_MAX_SIZE ? OpenAddressing.newIndex(n) : null;
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            Object element = elements[i];
+            if (find(elements, size, index, element) < 0) {
+                elements[size] = element;
+                if (index != null) {
+                    int slot = OpenAddressing.slot(element, index);
+                    while (index[slot] != 0) {
+                        slot = OpenAddressing.next(slot, index);
+                    }
+                    index[slot] = size + 1;
+                }
+                size++;
+            }
+        }
+        return new ImmutableOrderedSet<>(size < n ? Arrays.copyOf(elements, size) : elements, index);
+    }
+
+    private static int find(final Object[] elements, final int size, final int[] index, final Object o) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(elements[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int slot = OpenAddressing.slot(o, index);
+        int entry = index[slot];
+        while (entry != 0) {
+            if (o.equals(elements[entry - 1])) {
+                return entry - 1;
+            }
+            slot = OpenAddressing.next(slot, index);
+            entry = index[slot];
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o != null && find(elements, elements.length, index, o) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final Consumer<? super E> action) {
+        for (Object element : elements) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length, Object[].class);
+    }
+
+    @Override
+    public boolean add(final E e) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends E> c) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        throw uoe();
+    }
+
+    @Override
+    public void clear() {
+        throw uoe();
+    }
+
+    private static UnsupportedOperationException uoe() {
+        return new UnsupportedOperationException("set is immutable");
+    }
+
+    private Object readResolve() {
+        return elements.length == 0 ? EMPTY : this;
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Hash map with primitive {@code int} keys and object values; lookups do not box or allocate. Not thread-safe.
+ * <p>
+ * Entries are stored in dense key and value arrays indexed by an open-addressing table with linear probing, filled to
+ * at most three quarters. An insertion-ordered map marks removed entries and compacts them once they make up half of
+ * the arrays; an unordered map moves its last entry into the gap instead. {@code null} values are permitted.
+ *
+ * @param <V> value type
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Maps#intObjectMap()
+ * @see Maps#orderedIntObjectMap()
+ */
+public final class IntObjectMap<V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int MIN_CAPACITY = 8;
+    private final boolean ordered;
+    private int[] keys;
+    private Object[] values;
+    private int[] index;
+    private int used;
+    private int size;
+    private BitSet removed;
+
+    IntObjectMap(final boolean ordered, final int expectedSize) {
+        Validate.isTrue(expectedSize >= 0, "expectedSize must not be negative");
+        this.ordered = ordered;
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.index = new int[indexLength(capacity)];
+    }
+
+    /**
+     * @return {@code true} if the map iterates in insertion order
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the map contains no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key key
+     * @return {@code true} if the map contains the key
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @param key key
+     * @return value of the key or {@code null} if absent
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * @param key key
+     * @param defaultValue value returned if the key is absent
+     * @return value of the key or defaultValue if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        int position = find(key);
+        return position < 0 ? defaultValue : (V) values[position];
+    }
+
+    /**
+     * @param key key
+     * @param value value
+     * @return previous value of the key or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        int position = find(key);
+        if (position >= 0) {
+            V previous = (V) values[position];
+            values[position] = value;
+            return previous;
+        }
+        ensureCapacity();
+        position = used++;
+        keys[position] = key;
+        values[position] = value;
+        insert(key, position);
+        size++;
+        return null;
+    }
+
+    /**
+     * @param key key
+     * @return removed value or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = OpenAddressing.slot(key, index);
+        int entry = index[slot];
+        while (entry != 0 && keys[entry - 1] != key) {
+            slot = OpenAddressing.next(slot, index);
+            entry = index[slot];
+        }
+        if (entry == 0) {
+            return null;
+        }
+        int position = entry - 1;
+        V previous = (V) values[position];
+        deleteSlot(slot);
+        size--;
+        int last = used - 1;
+        if (position == last) {
+            values[last] = null;
+            used--;
+            trimRemoved();
+        } else if (ordered) {
+            values[position] = null;
+            if (removed == null) {
+                removed = new BitSet(keys.length);
+            }
+            removed.set(position);
+            if (used - size > used / 2) {
+                compact();
+            }
+        } else {
+            keys[position] = keys[last];
+            values[position] = values[last];
+            values[last] = null;
+            index[findSlot(keys[position], last)] = position + 1;
+            used--;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes all entries, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, used, null);
+        Arrays.fill(index, 0);
+        used = 0;
+        size = 0;
+        removed = null;
+    }
+
+    /**
+     * Performs the action for each entry, in insertion order if the map is ordered.
+     *
+     * @param action action
+     * @throws NullPointerException if action is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (int i = 0; i < used; i++) {
+            if (removed == null || !removed.get(i)) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return keys, in insertion order if the map is ordered
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < used; i++) {
+            if (removed == null || !removed.get(i)) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    private int find(final int key) {
+        int slot = OpenAddressing.slot(key, index);
+        int entry = index[slot];
+        while (entry != 0) {
+            if (keys[entry - 1] == key) {
+                return entry - 1;
+            }
+            slot = OpenAddressing.next(slot, index);
+            entry = index[slot];
+        }
+        return -1;
+    }
+
+    private int findSlot(final int key, final int position) {
+        int slot = OpenAddressing.slot(key, index);
+        while (index[slot] != position + 1) {
+            slot = OpenAddressing.next(slot, index);
+        }
+        return slot;
+    }
+
+    private void insert(final int key, final int position) {
+        int slot = OpenAddressing.slot(key, index);
+        while (index[slot] != 0) {
+            slot = OpenAddressing.next(slot, index);
+        }
+        index[slot] = position + 1;
+    }
+
+    /**
+     * Empties a slot, moving following entries of the probe sequence back so lookups need no tombstones.
+     */
+    private void deleteSlot(final int slot) {
+        int mask = index.length - 1;
+        int hole = slot;
+        int j = slot;
+        while (true) {
+            j = (j + 1) & mask;
+            int entry = index[j];
+            if (entry == 0) {
+                break;
+            }
+            int home = OpenAddressing.slot(keys[entry - 1], index);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                index[hole] = entry;
+                hole = j;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    private void trimRemoved() {
+        if (removed != null) {
+            while (used > 0 && removed.get(used - 1)) {
+                removed.clear(used - 1);
+                used--;
+            }
+            if (removed.isEmpty()) {
+                removed = null;
+            }
+        }
+    }
+
+    private void ensureCapacity() {
+        if (used == keys.length) {
+            if (removed != null) {
+                compact();
+            }
+            if (used == keys.length) {
+                int capacity = keys.length + (keys.length >> 1);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+        }
+        if ((size + 1) * 4L > index.length * 3L) {
+            rehash(index.length << 1);
+        }
+    }
+
+    private void compact() {
+        int n = 0;
+        for (int i = 0; i < used; i++) {
+            if (!removed.get(i)) {
+                keys[n] = keys[i];
+                values[n] = values[i];
+                n++;
+            }
+        }
+        Arrays.fill(values, n, used, null);
+        used = n;
+        removed = null;
+        rehash(index.length);
+    }
+
+    private void rehash(final int length) {
+        index = new int[length];
+        for (int i = 0; i < used; i++) {
+            if (removed == null || !removed.get(i)) {
+                insert(keys[i], i);
+            }
+        }
+    }
+
+    /**
+     * @return smallest power of two keeping the index filled to at most three quarters
+     */
+    private static int indexLength(final int entries) {
+        int length = Integer.highestOneBit(Math.max(MIN_CAPACITY, entries + entries / 3) - 1) << 1;
+        return length * 3 / 4 < entries ? length << 1 : length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntObjectMap)) {
+            return false;
+        }
+        IntObjectMap<Object> other = (IntObjectMap<Object>) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < used; i++) {
+            if (removed == null || !removed.get(i)) {
+                int position = other.find(keys[i]);
+                if (position < 0 || !Objects.equals(values[i], other.values[position])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < used; i++) {
+            if (removed == null || !removed.get(i)) {
+                hash += Integer.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(size * 16 + 2).append('{');
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Action performed for each entry of the map.
+     *
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * @param key entry key
+         * @param value entry value
+         */
+        void accept(int key, V value);
+    }
+}
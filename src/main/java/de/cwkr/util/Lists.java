@@ -18,8 +18,8 @@ package de.cwkr.util;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collector;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -99,8 +99,7 @@ public final class Lists {
      * @since 1.1.0
      */
     public static <T> List<T> unmodifiableListOf(final T element) {
-        Validate.notNull(element);
-        return Collections.singletonList(element);
+        return ImmutableLists.of(element);
     }
 
     /**
@@ -114,7 +113,7 @@ public final class Lists {
      */
     @SafeVarargs
     public static <T> List<T> unmodifiableListOf(final T... elements) {
-        return Collections.unmodifiableList(listOf(elements));
+        return ImmutableLists.copyOf(elements);
     }
 
     /**
@@ -127,6 +126,167 @@ public final class Lists {
      * @throws IllegalArgumentException if an element is {@code null}
      */
     public static <T> List<T> unmodifiableListOf(final Collection<? extends T> collection) {
-        return Collections.unmodifiableList(listOf(collection));
+        return ImmutableLists.copyOf(collection);
+    }
+
+    /**
+     * Creates a growable {@link IntList} containing all values.
+     *
+     * @param values values to add to list
+     * @return list instance
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public static IntList intListOf(final int... values) {
+        Validate.notNull(values);
+        IntList list = new IntList(values.length);
+        list.addInts(values);
+        return list;
+    }
+
+    /**
+     * Creates an immutable {@link IntList} containing all values.
+     *
+     * @param values values to add to list
+     * @return list instance
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public static IntList unmodifiableIntListOf(final int... values) {
+        Validate.notNull(values);
+        return new IntList(values.clone(), values.length, true);
+    }
+
+    /**
+     * Creates a growable {@link LongList} containing all values.
+     *
+     * @param values values to add to list
+     * @return list instance
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public static LongList longListOf(final long... values) {
+        Validate.notNull(values);
+        LongList list = new LongList(values.length);
+        list.addLongs(values);
+        return list;
+    }
+
+    /**
+     * Creates an immutable {@link LongList} containing all values.
+     *
+     * @param values values to add to list
+     * @return list instance
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public static LongList unmodifiableLongListOf(final long... values) {
+        Validate.notNull(values);
+        return new LongList(values.clone(), values.length, true);
+    }
+
+    /**
+     * Creates a growable {@link DoubleList} containing all values.
+     *
+     * @param values values to add to list
+     * @return list instance
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public static DoubleList doubleListOf(final double... values) {
+        Validate.notNull(values);
+        DoubleList list = new DoubleList(values.length);
+        list.addDoubles(values);
+        return list;
+    }
+
+    /**
+     * Creates an immutable {@link DoubleList} containing all values.
+     *
+     * @param values values to add to list
+     * @return list instance
+     * @throws NullPointerException if values is {@code null}
+     * @since 1.4.0
+     */
+    public static DoubleList unmodifiableDoubleListOf(final double... values) {
+        Validate.notNull(values);
+        return new DoubleList(values.clone(), values.length, true);
+    }
+
+    /**
+     * Creates an empty {@link OffHeapRecordList} storing fixed-width records in direct buffer segments of 64 MiB.
+     * The list must be closed to release its storage.
+     *
+     * @param recordSize size of each record in bytes
+     * @return list instance
+     * @throws IllegalArgumentException if recordSize is not positive or exceeds the segment size
+     * @since 1.4.0
+     */
+    public static OffHeapRecordList offHeapRecordList(final int recordSize) {
+        return new OffHeapRecordList(recordSize, OffHeapMemory.DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates an empty {@link OffHeapRecordList} storing fixed-width records in direct buffer segments of the given
+     * size, e.g. to keep small lists from reserving 64 MiB. The list must be closed to release its storage.
+     *
+     * @param recordSize size of each record in bytes
+     * @param segmentSize size of each direct buffer segment in bytes
+     * @return list instance
+     * @throws IllegalArgumentException if recordSize is not positive or exceeds the segment size
+     * @since 1.4.0
+     */
+    public static OffHeapRecordList offHeapRecordList(final int recordSize, final int segmentSize) {
+        return new OffHeapRecordList(recordSize, segmentSize);
+    }
+
+    /**
+     * Creates a {@link PersistentList} containing all elements, whose {@code with} and {@code without} operations
+     * return updated versions sharing structure with the original.
+     *
+     * @param elements elements to add to list
+     * @param <T> element type
+     * @return list instance
+     * @throws NullPointerException if elements is {@code null}
+     * @throws IllegalArgumentException if an element is {@code null}
+     * @since 1.4.0
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // the elements are only read and copied
+    public static <T> PersistentList<T> persistentListOf(final T... elements) {
+        Validate.noNullElements(elements);
+        return PersistentList.copyOf(elements);
+    }
+
+    /**
+     * Creates a {@link PersistentList} containing all elements of the collection, whose {@code with} and
+     * {@code without} operations return updated versions sharing structure with the original.
+     *
+     * @param collection collection to copy
+     * @param <T> element type
+     * @return list instance
+     * @throws NullPointerException if collection is {@code null}
+     * @throws IllegalArgumentException if an element is {@code null}
+     * @since 1.4.0
+     */
+    public static <T> PersistentList<T> persistentListOf(final Collection<? extends T> collection) {
+        Object[] elements = ImmutableLists.toArray(collection);
+        Validate.noNullElements(elements);
+        return PersistentList.copyOf(elements);
+    }
+
+    /**
+     * Returns a {@link Collector} accumulating elements into an immutable {@link List} as created by
+     * {@link #unmodifiableListOf(Object...)}. Elements are gathered in growing chunks, so the collector never resizes
+     * or re-inserts, parallel results are combined by concatenating their chunks and the list is created with its
+     * exact size.
+     *
+     * @param <T> element type
+     * @return collector instance
+     * @throws NullPointerException on collecting a {@code null} element
+     * @since 1.4.0
+     */
+    public static <T> Collector<T, ?, List<T>> toUnmodifiableList() {
+        return ChunkedBuffer.collector(buffer -> ImmutableLists.fromArray(buffer.toArray()));
     }
 }
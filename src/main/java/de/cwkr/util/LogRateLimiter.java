@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.slf4j.Logger;
+
+/**
+ * Limits the number of log events per interval and logger name using fixed windows; Thread-safe.
+ * <p>
+ * Used by {@link Errors#logErrorsBatched(Logger, LogRateLimiter)} to keep the cost of logging bounded during error
+ * storms. Events exceeding the limit are counted and the count is reported with the next permitted event.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class LogRateLimiter {
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final int maxEvents;
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+
+    /**
+     * @param maxEvents maximum number of events per interval and logger
+     * @param interval window length
+     * @throws IllegalArgumentException if maxEvents is less than one or interval is not positive
+     * @throws NullPointerException if interval is {@code null}
+     */
+    public LogRateLimiter(int maxEvents, Duration interval) {
+        this(maxEvents, interval, System::nanoTime);
+    }
+
+    LogRateLimiter(final int maxEvents, final Duration interval, final LongSupplier nanoTime) {
+        Validate.isTrue(maxEvents > 0, "maxEvents must be greater than zero");
+        Objects.requireNonNull(interval, "interval must not be null");
+        Validate.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be positive");
+        this.maxEvents = maxEvents;
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Tries to acquire a permit for logging one event.
+     *
+     * @param logger logger the event is logged to
+     * @return number of events suppressed since the last permitted event of this logger, or {@code -1} if the event
+     * must be suppressed
+     * @throws NullPointerException if logger is {@code null}
+     */
+    public long tryAcquire(Logger logger) {
+        Objects.requireNonNull(logger, "logger must not be null");
+        String name = logger.getName();
+        Window window = windows.get(name);
+        if (window == null) {
+            window = windows.computeIfAbsent(name, k -> new Window(nanoTime.getAsLong()));
+        }
+        return window.acquire(nanoTime.getAsLong());
+    }
+
+    /**
+     * @param logger logger
+     * @return number of events suppressed since the last permitted event of this logger
+     */
+    public long getSuppressedCount(Logger logger) {
+        Window window = windows.get(logger.getName());
+        return window == null ? 0L : window.suppressed.get();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("maxEvents", maxEvents)
+                                        .append("interval", Duration.ofNanos(intervalNanos))
+                                        .build();
+    }
+
+    /**
+     * Window of a logger; its start and the number of permits are replaced together by a single CAS, so a rollover
+     * cannot lose or misattribute permits acquired concurrently. Suppressed events only read the state.
+     */
+    private final class Window {
+        private final AtomicReference<State> state;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(final long start) {
+            this.state = new AtomicReference<>(new State(start, 0));
+        }
+
+        private long acquire(final long now) {
+            while (true) {
+                State current = state.get();
+                boolean expired = now - current.start >= intervalNanos;
+                if (!expired && current.count >= maxEvents) {
+                    suppressed.incrementAndGet();
+                    return -1L;
+                }
+                State next = expired ? new State(now, 1) : new State(current.start, current.count + 1);
+                if (state.compareAndSet(current, next)) {
+                    return suppressed.getAndSet(0L);
+                }
+            }
+        }
+    }
+
+    private static final class State {
+        private final long start;
+        private final int count;
+
+        private State(final long start, final int count) {
+            this.start = start;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link java.util.List} of {@code long} values backed by a primitive array, growable or immutable.
+ * <p>
+ * The {@link java.util.List} methods box and unbox values; the {@code Long} methods such as {@link #getLong(int)} and
+ * {@link #longStream()} access the values without boxing. {@code null} values cannot be added.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Lists#longListOf(long...)
+ * @see Lists#unmodifiableLongListOf(long...)
+ */
+public final class LongList extends AbstractList<Long> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final long[] EMPTY = {};
+    private static final int MIN_CAPACITY = 10;
+    private final boolean immutable;
+    private long[] values;
+    private int size;
+
+    /**
+     * Creates an empty growable list.
+     */
+    public LongList() {
+        this(EMPTY, 0, false);
+    }
+
+    /**
+     * Creates an empty growable list.
+     *
+     * @param capacity initial capacity
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public LongList(int capacity) {
+        this(newArray(capacity), 0, false);
+    }
+
+    LongList(final long[] values, final int size, final boolean immutable) {
+        this.values = values;
+        this.size = size;
+        this.immutable = immutable;
+    }
+
+    private static long[] newArray(final int capacity) {
+        Validate.isTrue(capacity >= 0, "capacity must not be negative");
+        return capacity == 0 ? EMPTY : new long[capacity];
+    }
+
+    /**
+     * @return {@code true} if this list cannot be modified
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    /**
+     * @param index index of the value
+     * @return value at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getLong(int index) {
+        checkIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * @param index index of the value
+     * @param value new value
+     * @return previous value at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public long setLong(int index, long value) {
+        ensureMutable();
+        checkIndex(index, size);
+        long previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * @param value value to append
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void addLong(long value) {
+        ensureMutable();
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * @param values values to append
+     * @throws NullPointerException if values is {@code null}
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void addLongs(long... values) {
+        ensureMutable();
+        if (size + values.length > this.values.length) {
+            grow(size + values.length);
+        }
+        System.arraycopy(values, 0, this.values, size, values.length);
+        size += values.length;
+        modCount++;
+    }
+
+    /**
+     * @param value value to search
+     * @return index of the first occurrence of the value or {@code -1}
+     */
+    public int indexOfLong(long value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value value to search
+     * @return {@code true} if the list contains the value
+     */
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+
+    /**
+     * @return copy of the values
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @return sequential stream of the values
+     */
+    public LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new ValueSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public Long get(final int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(final int index, final Long element) {
+        return setLong(index, element);
+    }
+
+    @Override
+    public boolean add(final Long element) {
+        addLong(element);
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final Long element) {
+        ensureMutable();
+        checkIndex(index, size + 1);
+        long value = element;
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Long remove(final int index) {
+        ensureMutable();
+        checkIndex(index, size);
+        long previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        ensureMutable();
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        if (o instanceof Long) {
+            long value = (Long) o;
+            for (int i = size - 1; i >= 0; i--) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    private void grow(final int minCapacity) {
+        int capacity = Math.max(minCapacity, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, Math.max(MIN_CAPACITY, capacity));
+    }
+
+    private void ensureMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("list is immutable");
+        }
+    }
+
+    private static void checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Late-binding and fail-fast spliterator like the one of {@link java.util.ArrayList}: the size is bound on the
+     * first traversal, split or size query and modifications of the list are detected after the traversal.
+     */
+    private final class ValueSpliterator implements Spliterator.OfLong {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ValueSpliterator(final int origin, final int fence, final int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ValueSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            Objects.requireNonNull(action, "action must not be null");
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept(values[i]);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            Objects.requireNonNull(action, "action must not be null");
+            int hi = getFence();
+            long[] array = values;
+            for (int i = index; i < hi; i++) {
+                action.accept(array[i]);
+            }
+            index = hi;
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | (immutable ? Spliterator.IMMUTABLE : 0);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
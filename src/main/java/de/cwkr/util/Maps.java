@@ -16,9 +16,12 @@
 package de.cwkr.util;
 
 import java.util.AbstractMap;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collector;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -42,6 +45,51 @@ public final class Maps {
         return new LinkedHashMap<>();
     }
 
+    /**
+     * Creates an empty thread-safe {@link ConcurrentMap} keeping insertion-order. Reads never block and new entries are
+     * appended without locking. An entry takes its position before it becomes visible to {@code get}, so an entry
+     * inserted after another one was observed by any thread always iterates after it. Iterators are weakly
+     * consistent: they may return an entry whose insertion has not completed yet, but never miss an entry that was
+     * visible before the iteration started and has not been removed since. {@code null} keys and values are not
+     * permitted.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static <K, V> ConcurrentMap<K, V> concurrentOrderedMap() {
+        return new ConcurrentOrderedMap<>();
+    }
+
+    /**
+     * Creates an empty thread-safe {@link CacheMap} holding at most the given number of entries, evicting the least
+     * recently used entry beyond that.
+     *
+     * @param maximumSize maximum number of entries
+     * @param <K> key type
+     * @param <V> value type
+     * @return map instance
+     * @throws IllegalArgumentException if maximumSize is negative
+     * @since 1.4.0
+     */
+    public static <K, V> CacheMap<K, V> cacheMap(final long maximumSize) {
+        return Maps.<K, V>cacheMapBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Creates a builder of thread-safe {@link CacheMap} instances bounded by size or weight, with selectable
+     * eviction policy and optional expiration.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return builder instance
+     * @since 1.4.0
+     */
+    public static <K, V> CacheMap.Builder<K, V> cacheMapBuilder() {
+        return new CacheMap.Builder<>();
+    }
+
     /**
      * Creates a {@link LinkedHashMap} containing one entry.
      *
@@ -206,7 +254,7 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> unmodifiableMapOf(final K key, final V value) {
         Validate.notNull(key);
-        return Collections.singletonMap(key, value);
+        return ImmutableOrderedMap.fromTrustedArray(new Object[] {key, value});
     }
 
     /**
@@ -222,11 +270,13 @@ public final class Maps {
      * @throws NullPointerException if a key is {@code null}
      */
     public static <K, V> Map<K, V> unmodifiableMapOf(final K k1, final V v1, final K k2, final V v2) {
-        return Collections.unmodifiableMap(orderedMapOf(k1, v1, k2, v2));
+        Validate.notNull(k1);
+        Validate.notNull(k2);
+        return ImmutableOrderedMap.fromTrustedArray(new Object[] {k1, v1, k2, v2});
     }
 
     /**
-     * Creates a {@link LinkedHashMap} containing three entries keeping insertion-order.
+     * Creates an immutable {@link Map} containing three entries keeping insertion-order.
      *
      * @param k1 first entry key
      * @param v1 first entry value
@@ -242,7 +292,10 @@ public final class Maps {
     public static <K, V> Map<K, V> unmodifiableMapOf(final K k1, final V v1,
                                                      final K k2, final V v2,
                                                      final K k3, final V v3) {
-        return Collections.unmodifiableMap(orderedMapOf(k1, v1, k2, v2, k3, v3));
+        Validate.notNull(k1);
+        Validate.notNull(k2);
+        Validate.notNull(k3);
+        return ImmutableOrderedMap.fromTrustedArray(new Object[] {k1, v1, k2, v2, k3, v3});
     }
 
     /**
@@ -256,7 +309,9 @@ public final class Maps {
      */
     @SafeVarargs
     public static <T> Map<T, T> unmodifiableMapOf(final T... kv) {
-        return Collections.unmodifiableMap(orderedMapOf(kv));
+        Validate.noNullElements(kv);
+        Validate.isTrue(kv.length % 2 == 0, "Number of key-value elements must be symmetric");
+        return ImmutableOrderedMap.fromTrustedArray(Arrays.copyOf(kv, kv.length, Object[].class));
     }
 
     /**
@@ -270,7 +325,7 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> unmodifiableMapOfEntries(final Map.Entry<K, V> entry) {
         Validate.notNull(entry.getKey());
-        return Collections.singletonMap(entry.getKey(), entry.getValue());
+        return ImmutableOrderedMap.fromTrustedArray(new Object[] {entry.getKey(), entry.getValue()});
     }
 
     /**
@@ -284,6 +339,274 @@ public final class Maps {
      */
     @SafeVarargs
     public static <K, V> Map<K, V> unmodifiableMapOfEntries(final Map.Entry<K, V>... entries) {
-        return Collections.unmodifiableMap(orderedMapOfEntries(entries));
+        Validate.noNullElements(entries);
+        Object[] kv = new Object[entries.length * 2];
+        for (int i = 0; i < entries.length; i++) {
+            kv[2 * i] = Validate.notNull(entries[i].getKey());
+            kv[2 * i + 1] = entries[i].getValue();
+        }
+        return ImmutableOrderedMap.fromTrustedArray(kv);
+    }
+
+    /**
+     * Creates an empty unordered {@link LongObjectMap} with primitive {@code long} keys and object values.
+     *
+     * @param <V> value type
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static <V> LongObjectMap<V> longObjectMap() {
+        return new LongObjectMap<>(false, 0);
+    }
+
+    /**
+     * Creates an empty unordered {@link LongObjectMap} with primitive {@code long} keys and object values,
+     * sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @param <V> value type
+     * @return map instance
+     * @throws IllegalArgumentException if expectedSize is negative
+     * @since 1.4.0
+     */
+    public static <V> LongObjectMap<V> longObjectMap(final int expectedSize) {
+        return new LongObjectMap<>(false, expectedSize);
+    }
+
+    /**
+     * Creates an empty insertion-ordered {@link LongObjectMap} with primitive {@code long} keys and object values.
+     *
+     * @param <V> value type
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static <V> LongObjectMap<V> orderedLongObjectMap() {
+        return new LongObjectMap<>(true, 0);
+    }
+
+    /**
+     * Creates an empty insertion-ordered {@link LongObjectMap} with primitive {@code long} keys and object values,
+     * sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @param <V> value type
+     * @return map instance
+     * @throws IllegalArgumentException if expectedSize is negative
+     * @since 1.4.0
+     */
+    public static <V> LongObjectMap<V> orderedLongObjectMap(final int expectedSize) {
+        return new LongObjectMap<>(true, expectedSize);
+    }
+
+    /**
+     * Creates an empty unordered {@link IntObjectMap} with primitive {@code int} keys and object values.
+     *
+     * @param <V> value type
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static <V> IntObjectMap<V> intObjectMap() {
+        return new IntObjectMap<>(false, 0);
+    }
+
+    /**
+     * Creates an empty unordered {@link IntObjectMap} with primitive {@code int} keys and object values,
+     * sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @param <V> value type
+     * @return map instance
+     * @throws IllegalArgumentException if expectedSize is negative
+     * @since 1.4.0
+     */
+    public static <V> IntObjectMap<V> intObjectMap(final int expectedSize) {
+        return new IntObjectMap<>(false, expectedSize);
+    }
+
+    /**
+     * Creates an empty insertion-ordered {@link IntObjectMap} with primitive {@code int} keys and object values.
+     *
+     * @param <V> value type
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static <V> IntObjectMap<V> orderedIntObjectMap() {
+        return new IntObjectMap<>(true, 0);
+    }
+
+    /**
+     * Creates an empty insertion-ordered {@link IntObjectMap} with primitive {@code int} keys and object values,
+     * sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @param <V> value type
+     * @return map instance
+     * @throws IllegalArgumentException if expectedSize is negative
+     * @since 1.4.0
+     */
+    public static <V> IntObjectMap<V> orderedIntObjectMap(final int expectedSize) {
+        return new IntObjectMap<>(true, expectedSize);
+    }
+
+    /**
+     * Creates an empty unordered {@link LongLongMap} with primitive {@code long} keys and values.
+     *
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static LongLongMap longLongMap() {
+        return new LongLongMap(false, 0);
+    }
+
+    /**
+     * Creates an empty unordered {@link LongLongMap} with primitive {@code long} keys and values,
+     * sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @return map instance
+     * @throws IllegalArgumentException if expectedSize is negative
+     * @since 1.4.0
+     */
+    public static LongLongMap longLongMap(final int expectedSize) {
+        return new LongLongMap(false, expectedSize);
+    }
+
+    /**
+     * Creates an empty insertion-ordered {@link LongLongMap} with primitive {@code long} keys and values.
+     *
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static LongLongMap orderedLongLongMap() {
+        return new LongLongMap(true, 0);
+    }
+
+    /**
+     * Creates an empty insertion-ordered {@link LongLongMap} with primitive {@code long} keys and values,
+     * sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @return map instance
+     * @throws IllegalArgumentException if expectedSize is negative
+     * @since 1.4.0
+     */
+    public static LongLongMap orderedLongLongMap(final int expectedSize) {
+        return new LongLongMap(true, expectedSize);
+    }
+
+    /**
+     * Creates an empty {@link OffHeapLongBytesMap} storing byte array values in direct buffer segments of 64 MiB.
+     * The map must be closed to release its storage.
+     *
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static OffHeapLongBytesMap offHeapLongBytesMap() {
+        return new OffHeapLongBytesMap(OffHeapMemory.DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates an empty {@link OffHeapLongBytesMap} storing byte array values in direct buffer segments of the given
+     * size, e.g. to keep small maps from reserving 64 MiB. Values must fit into a segment together with their
+     * four-byte length. The map must be closed to release its storage.
+     *
+     * @param segmentSize size of each direct buffer segment in bytes
+     * @return map instance
+     * @throws IllegalArgumentException if segmentSize is not greater than four
+     * @since 1.4.0
+     */
+    public static OffHeapLongBytesMap offHeapLongBytesMap(final int segmentSize) {
+        return new OffHeapLongBytesMap(segmentSize);
+    }
+
+    /**
+     * Returns an empty {@link PersistentMap}, whose {@code with} and {@code without} operations return updated
+     * versions sharing structure with the original.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return map instance
+     * @since 1.4.0
+     */
+    public static <K, V> PersistentMap<K, V> persistentMapOf() {
+        return PersistentMap.empty();
+    }
+
+    /**
+     * Creates a {@link PersistentMap} containing all entries of the map, whose {@code with} and {@code without}
+     * operations return updated versions sharing structure with the original.
+     *
+     * @param map map to copy
+     * @param <K> key type
+     * @param <V> value type
+     * @return map instance
+     * @throws NullPointerException if map is {@code null}
+     * @throws IllegalArgumentException if a key or value is {@code null}
+     * @since 1.4.0
+     */
+    public static <K, V> PersistentMap<K, V> persistentMapOf(final Map<? extends K, ? extends V> map) {
+        Validate.noNullElements(map.keySet());
+        Validate.noNullElements(map.values());
+        PersistentMap<K, V> result = PersistentMap.empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a {@link Collector} accumulating elements into a {@link LinkedHashMap} keeping encounter-order; for
+     * duplicate keys the last value wins. Entries are gathered in growing chunks and put into a map sized for all of
+     * them, so the map is never rehashed; parallel results are combined by concatenating their chunks.
+     *
+     * @param keyMapper function computing the key of an element
+     * @param valueMapper function computing the value of an element
+     * @param <T> element type
+     * @param <K> key type
+     * @param <V> value type
+     * @return collector instance
+     * @throws NullPointerException on collecting an element with a {@code null} key
+     * @since 1.4.0
+     */
+    public static <T, K, V> Collector<T, ?, Map<K, V>> toOrderedMap(
+        final Function<? super T, ? extends K> keyMapper, final Function<? super T, ? extends V> valueMapper) {
+        return ChunkedBuffer.entryCollector(keyMapper, valueMapper, true, buffer -> {
+            Map<K, V> map = new LinkedHashMap<>(capacity(buffer.size() / 2));
+            buffer.forEachPair((key, value) -> map.put(cast(key), cast(value)));
+            return map;
+        });
+    }
+
+    /**
+     * Returns a {@link Collector} accumulating elements into an immutable {@link Map} keeping encounter-order as
+     * created by {@link #unmodifiableMapOfEntries(Map.Entry...)}; for duplicate keys the last value wins and, like
+     * there, {@code null} values are permitted. Entries are gathered in growing chunks, parallel results are combined
+     * by concatenating their chunks and the map is built from a single exactly sized array.
+     *
+     * @param keyMapper function computing the key of an element
+     * @param valueMapper function computing the value of an element
+     * @param <T> element type
+     * @param <K> key type
+     * @param <V> value type
+     * @return collector instance
+     * @throws NullPointerException on collecting an element with a {@code null} key
+     * @since 1.4.0
+     */
+    public static <T, K, V> Collector<T, ?, Map<K, V>> toUnmodifiableMap(
+        final Function<? super T, ? extends K> keyMapper, final Function<? super T, ? extends V> valueMapper) {
+        return ChunkedBuffer.entryCollector(keyMapper, valueMapper, true,
+                                            buffer -> ImmutableOrderedMap.fromTrustedArray(buffer.toArray()));
+    }
+
+    /**
+     * @return initial capacity of a hash map holding the expected number of entries without rehashing
+     */
+    static int capacity(final int expectedSize) {
+        return (int) Math.min(Integer.MAX_VALUE, expectedSize * 4L / 3 + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object o) {
+        return (T) o;
     }
 }
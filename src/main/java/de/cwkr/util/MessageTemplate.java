@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Precompiled message template using the SLF4J {@code {}} placeholder syntax; Immutable.
+ * <p>
+ * The positions of all delimiters are found once, so formatting is a single pass appending the literal parts and the
+ * parameters to a presized {@link StringBuilder}. Formatting gives the same result as SLF4J's
+ * {@link org.slf4j.helpers.MessageFormatter#arrayFormat(String, Object[])}: {@code \{}} denotes a literal {@code {}}
+ * and {@code \\{}} a backslash followed by a placeholder, but escapes are only resolved while parameters are left
+ * and kept as they are afterwards; a {@link Throwable} as last parameter is never used for a placeholder,
+ * placeholders without a parameter are kept as {@code {}} and surplus parameters are ignored. A mismatch between
+ * placeholders and parameters is therefore not reported when formatting; use {@link #of(String, int)} to verify the
+ * number of placeholders up front. Templates are meant to be kept in constants and passed to the {@link Errors}
+ * check methods.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class MessageTemplate {
+    private static final String PLACEHOLDER = "{}";
+    private static final char ESCAPE = '\\';
+    private static final byte PLAIN = 0;
+    private static final byte ESCAPED = 1;
+    private static final byte DOUBLE_ESCAPED = 2;
+    private static final int PARAM_LENGTH = 16;
+    private final String pattern;
+    private final int[] delimiters;
+    private final byte[] kinds;
+    private final int placeholderCount;
+
+    private MessageTemplate(final String pattern) {
+        this.pattern = pattern;
+        int count = 0;
+        int[] positions = new int[4];
+        byte[] types = new byte[positions.length];
+        int placeholders = 0;
+        int from = 0;
+        int at = pattern.indexOf(PLACEHOLDER);
+        while (at >= 0) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+                types = Arrays.copyOf(types, count * 2);
+            }
+            byte kind = kindOf(pattern, at);
+            positions[count] = at;
+            types[count++] = kind;
+            if (kind != ESCAPED) {
+                placeholders++;
+            }
+            // like SLF4J, an escaped delimiter is only skipped by its opening brace
+            from = kind == ESCAPED ? at + 1 : at + PLACEHOLDER.length();
+            at = pattern.indexOf(PLACEHOLDER, from);
+        }
+        this.delimiters = Arrays.copyOf(positions, count);
+        this.kinds = Arrays.copyOf(types, count);
+        this.placeholderCount = placeholders;
+    }
+
+    /**
+     * @param pattern message pattern, e.g. {@code "{} must be positive"}
+     * @return template
+     * @throws NullPointerException if pattern is {@code null}
+     */
+    public static MessageTemplate of(String pattern) {
+        Objects.requireNonNull(pattern, "pattern must not be null");
+        return new MessageTemplate(pattern);
+    }
+
+    /**
+     * @param pattern message pattern, e.g. {@code "{} must be positive"}
+     * @param expectedArgs number of placeholders the pattern must contain
+     * @return template
+     * @throws NullPointerException if pattern is {@code null}
+     * @throws IllegalArgumentException if the number of placeholders differs from expectedArgs
+     */
+    public static MessageTemplate of(String pattern, int expectedArgs) {
+        MessageTemplate template = of(pattern);
+        Validate.isTrue(template.getPlaceholderCount() == expectedArgs,
+                        "pattern must contain %d placeholders but contains %d: %s", expectedArgs,
+                        template.getPlaceholderCount(), pattern);
+        return template;
+    }
+
+    private static byte kindOf(final String pattern, final int at) {
+        if (at == 0 || pattern.charAt(at - 1) != ESCAPE) {
+            return PLAIN;
+        }
+        return at >= 2 && pattern.charAt(at - 2) == ESCAPE ? DOUBLE_ESCAPED : ESCAPED;
+    }
+
+    /**
+     * @return message pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return number of placeholders
+     */
+    public int getPlaceholderCount() {
+        return placeholderCount;
+    }
+
+    /**
+     * @param params message parameters; arrays are formatted element-wise
+     * @return formatted message
+     */
+    public String format(Object... params) {
+        return format(params, "");
+    }
+
+    String format(final Object[] params, final String suffix) {
+        int count = params == null ? 0 : params.length;
+        if (count > 0 && params[count - 1] instanceof Throwable) {
+            // like SLF4J, a trailing throwable is meant to be logged, not formatted
+            count--;
+        }
+        StringBuilder sb = new StringBuilder(pattern.length() + placeholderCount * PARAM_LENGTH + suffix.length());
+        int from = 0;
+        int used = 0;
+        for (int i = 0; i < delimiters.length && used < count; i++) {
+            int at = delimiters[i];
+            if (kinds[i] == ESCAPED) {
+                sb.append(pattern, from, at - 1).append('{');
+                from = at + 1;
+            } else {
+                sb.append(pattern, from, kinds[i] == DOUBLE_ESCAPED ? at - 1 : at);
+                appendParam(sb, params[used++]);
+                from = at + PLACEHOLDER.length();
+            }
+        }
+        return sb.append(pattern, from, pattern.length()).append(suffix).toString();
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity") // one branch per array type
+    private static void appendParam(final StringBuilder sb, final Object param) {
+        if (param == null || !param.getClass().isArray()) {
+            sb.append(param);
+        } else if (param instanceof Object[]) {
+            sb.append(Arrays.deepToString((Object[]) param));
+        } else if (param instanceof int[]) {
+            sb.append(Arrays.toString((int[]) param));
+        } else if (param instanceof long[]) {
+            sb.append(Arrays.toString((long[]) param));
+        } else if (param instanceof double[]) {
+            sb.append(Arrays.toString((double[]) param));
+        } else if (param instanceof byte[]) {
+            sb.append(Arrays.toString((byte[]) param));
+        } else if (param instanceof char[]) {
+            sb.append(Arrays.toString((char[]) param));
+        } else if (param instanceof boolean[]) {
+            sb.append(Arrays.toString((boolean[]) param));
+        } else if (param instanceof short[]) {
+            sb.append(Arrays.toString((short[]) param));
+        } else {
+            sb.append(Arrays.toString((float[]) param));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return pattern.equals(((MessageTemplate) o).pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("pattern", pattern)
+                                        .build();
+    }
+}
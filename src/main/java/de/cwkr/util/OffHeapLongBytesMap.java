@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Map with primitive {@code long} keys and byte array values stored off-heap, keeping large lookup tables out of the
+ * garbage collector's way. Not thread-safe.
+ * <p>
+ * Values are appended to a log of direct buffer segments, each prefixed by its length; the keys and log offsets are
+ * kept in a {@link LongLongMap}, whose primitive arrays the collector does not need to trace. Replaced and removed
+ * values leave garbage in the log, which {@link #compact()} reclaims. Instances must be closed when no longer
+ * needed; any access after {@link #close()} throws an {@link IllegalStateException}.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Maps#offHeapLongBytesMap()
+ * @see Maps#offHeapLongBytesMap(int)
+ */
+public final class OffHeapLongBytesMap implements AutoCloseable {
+    private static final int LENGTH_BYTES = 4;
+    private static final byte[] EMPTY = {};
+    private final int segmentSize;
+    private OffHeapMemory memory;
+    private final LongLongMap offsets = new LongLongMap(false, 0);
+    private long end;
+    private long garbage;
+
+    OffHeapLongBytesMap(final int segmentSize) {
+        Validate.isTrue(segmentSize > LENGTH_BYTES, "segmentSize must be greater than %d", LENGTH_BYTES);
+        this.segmentSize = segmentSize;
+        this.memory = new OffHeapMemory(segmentSize);
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return offsets.size();
+    }
+
+    /**
+     * @return {@code true} if the map contains no entries
+     */
+    public boolean isEmpty() {
+        return offsets.isEmpty();
+    }
+
+    /**
+     * @return number of off-heap bytes allocated
+     */
+    public long getAllocatedBytes() {
+        return memory.allocatedBytes();
+    }
+
+    /**
+     * @return number of off-heap bytes occupied by replaced or removed values
+     */
+    public long getGarbageBytes() {
+        return garbage;
+    }
+
+    /**
+     * @param key key
+     * @return {@code true} if the map contains the key
+     * @throws IllegalStateException if the map has been closed
+     */
+    public boolean containsKey(long key) {
+        memory.ensureOpen();
+        return offsets.containsKey(key);
+    }
+
+    /**
+     * @param key key
+     * @return copy of the value or {@code null} if absent
+     * @throws IllegalStateException if the map has been closed
+     */
+    public byte[] get(long key) {
+        memory.ensureOpen();
+        long offset = offsets.getOrDefault(key, -1L);
+        return offset < 0 ? null : read(memory, offset);
+    }
+
+    /**
+     * @param key key
+     * @param value value of at most the segment size minus four bytes
+     * @throws NullPointerException if value is {@code null}
+     * @throws IllegalArgumentException if value is too large
+     * @throws IllegalStateException if the map has been closed
+     */
+    public void put(long key, byte[] value) {
+        Validate.isTrue(value.length <= segmentSize - LENGTH_BYTES, "value must not exceed %d bytes",
+                        segmentSize - LENGTH_BYTES);
+        memory.ensureOpen();
+        long previous = offsets.getOrDefault(key, -1L);
+        if (previous >= 0) {
+            garbage += LENGTH_BYTES + length(memory, previous);
+        }
+        offsets.put(key, append(value));
+    }
+
+    /**
+     * @param key key
+     * @return {@code true} if the key was present
+     * @throws IllegalStateException if the map has been closed
+     */
+    public boolean remove(long key) {
+        memory.ensureOpen();
+        long offset = offsets.getOrDefault(key, -1L);
+        if (offset < 0) {
+            return false;
+        }
+        garbage += LENGTH_BYTES + length(memory, offset);
+        return offsets.remove(key);
+    }
+
+    /**
+     * @return keys in no particular order
+     * @throws IllegalStateException if the map has been closed
+     */
+    public long[] keys() {
+        memory.ensureOpen();
+        return offsets.keys();
+    }
+
+    /**
+     * Copies all live values into new segments, releasing the space of replaced and removed values. Values are
+     * copied in log order and each old segment is freed as soon as its values have been copied, so compaction needs
+     * at most one segment more than the live values occupy.
+     *
+     * @throws IllegalStateException if the map has been closed
+     */
+    public void compact() {
+        OffHeapMemory old = memory;
+        old.ensureOpen();
+        LongLongMap keysByOffset = new LongLongMap(false, offsets.size());
+        offsets.forEach((key, offset) -> keysByOffset.put(offset, key));
+        long[] liveOffsets = keysByOffset.keys();
+        Arrays.sort(liveOffsets);
+        memory = new OffHeapMemory(segmentSize);
+        offsets.clear();
+        end = 0;
+        garbage = 0;
+        for (long offset : liveOffsets) {
+            old.freeBefore(offset);
+            offsets.put(keysByOffset.getOrDefault(offset, -1L), append(read(old, offset)));
+        }
+        old.close();
+    }
+
+    /**
+     * Removes all entries, keeping the allocated segments for reuse.
+     *
+     * @throws IllegalStateException if the map has been closed
+     */
+    public void clear() {
+        memory.ensureOpen();
+        offsets.clear();
+        end = 0;
+        garbage = 0;
+    }
+
+    /**
+     * @return {@code true} if the map has been closed
+     */
+    public boolean isClosed() {
+        return memory.isClosed();
+    }
+
+    /**
+     * Releases the off-heap storage; closing a closed map has no effect.
+     */
+    @Override
+    public void close() {
+        memory.close();
+        offsets.clear();
+        end = 0;
+        garbage = 0;
+    }
+
+    /**
+     * @return offset of the appended value; values never span two segments
+     */
+    private long append(final byte[] value) {
+        long offset = end;
+        int remaining = segmentSize - memory.position(offset);
+        if (remaining < LENGTH_BYTES + value.length) {
+            garbage += remaining;
+            offset += remaining;
+        }
+        memory.segment(offset).putInt(memory.position(offset), value.length);
+        if (value.length > 0) {
+            memory.write(offset + LENGTH_BYTES, value);
+        }
+        end = offset + LENGTH_BYTES + value.length;
+        return offset;
+    }
+
+    private static int length(final OffHeapMemory memory, final long offset) {
+        return memory.segment(offset).getInt(memory.position(offset));
+    }
+
+    private static byte[] read(final OffHeapMemory memory, final long offset) {
+        int length = length(memory, offset);
+        if (length == 0) {
+            return EMPTY;
+        }
+        byte[] value = new byte[length];
+        memory.read(offset + LENGTH_BYTES, value, length);
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Segmented off-heap storage used by {@link OffHeapRecordList} and {@link OffHeapLongBytesMap}. Segments are direct
+ * buffers of equal size allocated on first use, addressed by a {@code long} offset. Not thread-safe.
+ * <p>
+ * {@link #close()} and {@link #freeBefore(long)} release the native memory of segments immediately using
+ * {@link DirectBuffers}, so neither a loop creating and closing instances nor {@code -XX:+DisableExplicitGC} runs
+ * into the direct memory limit.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class OffHeapMemory {
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+    private final int segmentSize;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private int freedSegments;
+    private boolean closed;
+
+    OffHeapMemory(final int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be positive");
+        }
+        this.segmentSize = segmentSize;
+    }
+
+    int segmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * @return segment containing the offset, allocating it and all preceding segments if necessary
+     */
+    ByteBuffer segment(final long offset) {
+        ensureOpen();
+        int index = (int) (offset / segmentSize);
+        if (index < freedSegments) {
+            throw new IllegalStateException("offset " + offset + " is in a freed segment");
+        }
+        while (segments.size() <= index) {
+            segments.add(ByteBuffer.allocateDirect(segmentSize));
+        }
+        return segments.get(index);
+    }
+
+    /**
+     * Frees all segments preceding the segment containing the offset; they must not be accessed anymore.
+     */
+    void freeBefore(final long offset) {
+        int index = (int) Math.min(offset / segmentSize, segments.size());
+        for (int i = freedSegments; i < index; i++) {
+            DirectBuffers.free(segments.get(i));
+            segments.set(i, null);
+        }
+        freedSegments = Math.max(freedSegments, index);
+    }
+
+    int position(final long offset) {
+        return (int) (offset % segmentSize);
+    }
+
+    void read(final long offset, final byte[] dst, final int length) {
+        ByteBuffer segment = segment(offset);
+        // Buffer.position(int) keeps the call compatible with the Java 8 class library
+        ((Buffer) segment).position(position(offset));
+        segment.get(dst, 0, length);
+    }
+
+    void write(final long offset, final byte[] src) {
+        ByteBuffer segment = segment(offset);
+        ((Buffer) segment).position(position(offset));
+        segment.put(src);
+    }
+
+    long allocatedBytes() {
+        return (long) (segments.size() - freedSegments) * segmentSize;
+    }
+
+    void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("off-heap storage has been closed");
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        freeBefore((long) segments.size() * segmentSize);
+        segments.clear();
+        closed = true;
+    }
+}
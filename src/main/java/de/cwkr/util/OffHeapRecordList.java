@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Growable list of fixed-width binary records stored off-heap in direct buffer segments, keeping large datasets out
+ * of the garbage collector's way. Records are addressed by a {@code long} index and never span two segments. Not
+ * thread-safe.
+ * <p>
+ * Instances must be closed when no longer needed; any access after {@link #close()} throws an
+ * {@link IllegalStateException}.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Lists#offHeapRecordList(int)
+ * @see Lists#offHeapRecordList(int, int)
+ */
+public final class OffHeapRecordList implements AutoCloseable {
+    private static final int LONG_BYTES = 8;
+    private static final int INT_BYTES = 4;
+    private final OffHeapMemory memory;
+    private final int recordSize;
+    private final int recordsPerSegment;
+    private long size;
+
+    OffHeapRecordList(final int recordSize, final int segmentSize) {
+        Validate.isTrue(recordSize > 0 && recordSize <= segmentSize, "recordSize must be between 1 and %d",
+                        segmentSize);
+        this.memory = new OffHeapMemory(segmentSize);
+        this.recordSize = recordSize;
+        this.recordsPerSegment = segmentSize / recordSize;
+    }
+
+    /**
+     * @return size of each record in bytes
+     */
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * @return number of records
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the list contains no records
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of off-heap bytes allocated
+     */
+    public long getAllocatedBytes() {
+        return memory.allocatedBytes();
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param record record of exactly {@link #getRecordSize()} bytes
+     * @return index of the record
+     * @throws IllegalArgumentException if the record has a different size
+     * @throws IllegalStateException if the list has been closed
+     */
+    public long add(byte[] record) {
+        checkRecord(record);
+        memory.write(offset(size), record);
+        return size++;
+    }
+
+    /**
+     * @param index record index
+     * @return copy of the record
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if the list has been closed
+     */
+    public byte[] get(long index) {
+        byte[] record = new byte[recordSize];
+        get(index, record);
+        return record;
+    }
+
+    /**
+     * Copies a record into the given array, avoiding allocation when reading many records.
+     *
+     * @param index record index
+     * @param dst array of at least {@link #getRecordSize()} bytes
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if dst is too small
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void get(long index, byte[] dst) {
+        Validate.isTrue(dst.length >= recordSize, "dst must hold at least %d bytes", recordSize);
+        memory.read(offset(checkIndex(index)), dst, recordSize);
+    }
+
+    /**
+     * @param index record index
+     * @param record record of exactly {@link #getRecordSize()} bytes
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the record has a different size
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void set(long index, byte[] record) {
+        checkRecord(record);
+        memory.write(offset(checkIndex(index)), record);
+    }
+
+    /**
+     * @param index record index
+     * @param offset offset of the field within the record
+     * @return {@code long} field of the record
+     * @throws IndexOutOfBoundsException if the index or offset is out of range
+     * @throws IllegalStateException if the list has been closed
+     */
+    public long getLong(long index, int offset) {
+        long address = fieldOffset(index, offset, LONG_BYTES);
+        return memory.segment(address).getLong(memory.position(address));
+    }
+
+    /**
+     * @param index record index
+     * @param offset offset of the field within the record
+     * @param value new value of the field
+     * @throws IndexOutOfBoundsException if the index or offset is out of range
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void putLong(long index, int offset, long value) {
+        long address = fieldOffset(index, offset, LONG_BYTES);
+        memory.segment(address).putLong(memory.position(address), value);
+    }
+
+    /**
+     * @param index record index
+     * @param offset offset of the field within the record
+     * @return {@code int} field of the record
+     * @throws IndexOutOfBoundsException if the index or offset is out of range
+     * @throws IllegalStateException if the list has been closed
+     */
+    public int getInt(long index, int offset) {
+        long address = fieldOffset(index, offset, INT_BYTES);
+        return memory.segment(address).getInt(memory.position(address));
+    }
+
+    /**
+     * @param index record index
+     * @param offset offset of the field within the record
+     * @param value new value of the field
+     * @throws IndexOutOfBoundsException if the index or offset is out of range
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void putInt(long index, int offset, int value) {
+        long address = fieldOffset(index, offset, INT_BYTES);
+        memory.segment(address).putInt(memory.position(address), value);
+    }
+
+    /**
+     * Removes all records, keeping the allocated segments for reuse.
+     *
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void clear() {
+        memory.ensureOpen();
+        size = 0;
+    }
+
+    /**
+     * @return {@code true} if the list has been closed
+     */
+    public boolean isClosed() {
+        return memory.isClosed();
+    }
+
+    /**
+     * Releases the off-heap storage; closing a closed list has no effect.
+     */
+    @Override
+    public void close() {
+        memory.close();
+        size = 0;
+    }
+
+    private long offset(final long index) {
+        return index / recordsPerSegment * memory.segmentSize() + index % recordsPerSegment * recordSize;
+    }
+
+    private long fieldOffset(final long index, final int offset, final int width) {
+        if (offset < 0 || offset > recordSize - width) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Record size: " + recordSize);
+        }
+        return offset(checkIndex(index)) + offset;
+    }
+
+    private long checkIndex(final long index) {
+        memory.ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+
+    private void checkRecord(final byte[] record) {
+        Validate.isTrue(record.length == recordSize, "record must have %d bytes", recordSize);
+    }
+}
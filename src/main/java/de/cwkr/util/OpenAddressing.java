@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+/**
+ * Helpers for open-addressing hash indexes with linear probing used by the immutable collections. An index is an
+ * {@code int} array with a power-of-two length whose slots hold the position of an element plus one, zero marking an
+ * empty slot.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class OpenAddressing {
+    /**
+     * Collections up to this size are searched linearly instead of building an index.
+     */
+    static final int LINEAR_SCAN_MAX_SIZE = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private OpenAddressing() {
+    }
+
+    /**
+     * @return index for the given number of elements, filled to at most half
+     */
+    static int[] newIndex(final int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+        return new int[Math.min(capacity, MAXIMUM_CAPACITY)];
+    }
+
+    /**
+     * @return first slot to probe for the given key
+     */
+    static int slot(final Object key, final int[] index) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (index.length - 1);
+    }
+
+    /**
+     * @return first slot to probe for the given key, using the well-mixed high bits of a Fibonacci hash
+     */
+    static int slot(final long key, final int[] index) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (index.length - 1);
+    }
+
+    /**
+     * @return first slot to probe for the given key
+     */
+    static int slot(final int key, final int[] index) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (index.length - 1);
+    }
+
+    /**
+     * @return slot following the given one
+     */
+    static int next(final int slot, final int[] index) {
+        return (slot + 1) & (index.length - 1);
+    }
+}
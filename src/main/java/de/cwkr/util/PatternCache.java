@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Bounded cache of compiled regular expressions with approximated least-recently-used eviction; Thread-safe.
+ * <p>
+ * Hits only read a {@link ConcurrentHashMap} and stamp the entry with the current epoch, which advances on every
+ * miss. When the cache is full, a miss evicts the entry with the oldest stamp, so the cost of eviction is only paid
+ * together with {@link Pattern#compile(String)}.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+public final class PatternCache {
+    private static final int DEFAULT_MAXIMUM_SIZE = 256;
+    private static final PatternCache DEFAULT_CACHE = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maximumSize;
+
+    /**
+     * @param maximumSize maximum number of cached patterns
+     * @throws IllegalArgumentException if maximumSize is less than one
+     */
+    public PatternCache(int maximumSize) {
+        Validate.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return shared cache of up to 256 patterns used by {@link Errors}
+     */
+    public static PatternCache defaultCache() {
+        return DEFAULT_CACHE;
+    }
+
+    /**
+     * Returns the cached pattern for a regular expression, compiling it on a miss.
+     *
+     * @param regex regular expression
+     * @return compiled pattern
+     * @throws NullPointerException if regex is {@code null}
+     * @throws java.util.regex.PatternSyntaxException if regex is invalid
+     */
+    public Pattern compile(String regex) {
+        Objects.requireNonNull(regex, "regex must not be null");
+        Entry entry = entries.get(regex);
+        if (entry != null) {
+            hits.increment();
+            entry.touch(epoch.get());
+            return entry.pattern;
+        }
+        misses.increment();
+        Pattern pattern = Pattern.compile(regex);
+        // advance the epoch twice, so entries hit from now on are newer than the inserted one
+        entry = new Entry(pattern, epoch.addAndGet(2) - 1);
+        Entry existing = entries.putIfAbsent(regex, entry);
+        if (existing != null) {
+            return existing.pattern;
+        }
+        while (entries.size() > maximumSize) {
+            evictOldest(regex);
+        }
+        return pattern;
+    }
+
+    private void evictOldest(final String keep) {
+        String oldestKey = null;
+        long oldestStamp = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            long stamp = candidate.getValue().stamp;
+            if (stamp < oldestStamp && !candidate.getKey().equals(keep)) {
+                oldestKey = candidate.getKey();
+                oldestStamp = stamp;
+            }
+        }
+        if (oldestKey != null && entries.remove(oldestKey) != null) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * @return number of cached patterns
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return maximum number of cached patterns
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups which had to compile the pattern
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of patterns evicted to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Removes all patterns and resets the statistics.
+     */
+    public void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("size", entries.size())
+                                        .append("maximumSize", maximumSize)
+                                        .append("hits", hits.sum())
+                                        .append("misses", misses.sum())
+                                        .append("evictions", evictions.sum())
+                                        .build();
+    }
+
+    private static final class Entry {
+        private final Pattern pattern;
+        private volatile long stamp;
+
+        private Entry(final Pattern pattern, final long stamp) {
+            this.pattern = pattern;
+            this.stamp = stamp;
+        }
+
+        private void touch(final long now) {
+            if (stamp != now) {
+                stamp = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable {@link java.util.List} whose {@code with} and {@code without} operations return new versions sharing structure
+ * with this one instead of copying it. The {@link java.util.List} mutators throw
+ * {@link UnsupportedOperationException}; {@code null} elements are not permitted.
+ * <p>
+ * Elements are stored in a trie of 32-element arrays with the last, partially filled array kept apart as the tail.
+ * Access and update take O(log<sub>32</sub> n) steps, i.e. at most seven for any list that fits in memory; appending
+ * and removing the last element only copy the tail in most cases.
+ *
+ * @param <E> element type
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Lists#persistentListOf(Object...)
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentList(final int size, final int shift, final Object[] root, final Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @param <E> element type
+     * @return empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Creates a list of non-null elements, filling the leaves and the tail directly instead of appending one element
+     * at a time; the array is not retained.
+     */
+    static <E> PersistentList<E> copyOf(final Object[] elements) {
+        int n = elements.length;
+        if (n == 0) {
+            return empty();
+        }
+        int tailOffset = n < WIDTH ? 0 : ((n - 1) >>> BITS) << BITS;
+        Object[][] leaves = new Object[tailOffset >>> BITS][];
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (leaves.length > 1 << shift) {
+            shift += BITS;
+        }
+        Object[] root = leaves.length == 0 ? EMPTY_NODE : buildNode(shift, leaves, 0);
+        return new PersistentList<>(n, shift, root, Arrays.copyOfRange(elements, tailOffset, n));
+    }
+
+    /**
+     * @return node at the level holding the leaves starting at the given one; trailing slots are empty
+     */
+    private static Object[] buildNode(final int level, final Object[][] leaves, final int firstLeaf) {
+        Object[] node = new Object[WIDTH];
+        int leavesPerChild = 1 << (level - BITS);
+        for (int i = 0; i < WIDTH; i++) {
+            int leaf = firstLeaf + i * leavesPerChild;
+            if (leaf >= leaves.length) {
+                break;
+            }
+            node[i] = level == BITS ? leaves[leaf] : buildNode(level - BITS, leaves, leaf);
+        }
+        return node;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) leafFor(checkIndex(index))[index & MASK];
+    }
+
+    /**
+     * @param element element to append
+     * @return list with the element appended
+     * @throws NullPointerException if element is {@code null}
+     */
+    public PersistentList<E> with(E element) {
+        Objects.requireNonNull(element, "element must not be null");
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * @param index index of the element to replace
+     * @param element new element
+     * @return list with the element at the index replaced
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if element is {@code null}
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index);
+        Objects.requireNonNull(element, "element must not be null");
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, replace(shift, root, index, element), tail);
+    }
+
+    /**
+     * @return list without the last element
+     * @throws IllegalStateException if the list is empty
+     */
+    public PersistentList<E> withoutLast() {
+        if (size == 0) {
+            throw new IllegalStateException("list is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index;
+            private Object[] leaf = size > 0 ? leafFor(0) : tail;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0 && index > 0) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(final int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(final int level, final Object[] parent, final Object[] tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        if (level == BITS) {
+            node[child] = tailNode;
+        } else if (parent[child] == null) {
+            node[child] = newPath(level - BITS, tailNode);
+        } else {
+            node[child] = pushTail(level - BITS, (Object[]) parent[child], tailNode);
+        }
+        return node;
+    }
+
+    private static Object[] newPath(final int level, final Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    private static Object[] replace(final int level, final Object[] node, final int index, final Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = replace(level - BITS, (Object[]) node[child], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * @return copy of the node without the rightmost leaf; slot zero is empty if nothing else remains
+     */
+    private Object[] popTail(final int level, final Object[] node) {
+        int child = ((size - 2) >>> level) & MASK;
+        Object[] copy = node.clone();
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+            copy[child] = newChild[0] == null ? null : newChild;
+        } else {
+            copy[child] = null;
+        }
+        return copy;
+    }
+}
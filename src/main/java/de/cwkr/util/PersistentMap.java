@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable {@link Map} whose {@code with} and {@code without} operations return new versions sharing structure with
+ * this one instead of copying it. The {@link Map} mutators throw {@link UnsupportedOperationException}; {@code null}
+ * keys and values are not permitted. Iteration order is unspecified.
+ * <p>
+ * Entries are stored in a hash array mapped trie: each node consumes five bits of the hash code and holds a bitmap
+ * of its occupied slots followed by a dense array of entries and child nodes, so an update copies at most seven
+ * small arrays. Keys with identical hash codes share a collision node.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Christian Winkler
+ * @since 1.4.0
+ * @see Maps#persistentMapOf()
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 16;
+    private static final int PAIR_LENGTH = 2;
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(new BitmapNode(0, new Object[0]), 0);
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(final Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @param <K> key type
+     * @param <V> value type
+     * @return empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return key == null ? null : (V) root.find(0, hash(key), key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @param key key
+     * @param value value
+     * @return map with the key mapped to the value
+     * @throws NullPointerException if key or value is {@code null}
+     */
+    public PersistentMap<K, V> with(K key, V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        boolean[] added = new boolean[1];
+        Node newRoot = root.with(0, hash(key), key, value, added);
+        return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * @param key key
+     * @return map without the key, or this map if the key is absent
+     */
+    public PersistentMap<K, V> without(Object key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        if (size == 1) {
+            return empty();
+        }
+        return new PersistentMap<>(root.without(0, hash(key), key), size - 1);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(final Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Trie node; its array holds key-value pairs, where a {@code null} key marks a child node in place of the value.
+     */
+    private abstract static class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final Object[] array;
+
+        Node(final Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node with(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * @return node without the key, which must be present, or {@code null} if the node becomes empty
+         */
+        abstract Node without(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final int bitmap;
+
+        BitmapNode(final int bitmap, final Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(final int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(final int shift, final int hash, final Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        @Override
+        Node with(final int shift, final int hash, final Object key, final Object value, final boolean[] added) {
+            int bit = bit(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[array.length + 2];
+                System.arraycopy(array, 0, copy, 0, i);
+                copy[i] = key;
+                copy[i + 1] = value;
+                System.arraycopy(array, i, copy, i + 2, array.length - i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, copy);
+            }
+            Object k = array[i];
+            Object[] copy = array.clone();
+            if (k == null) {
+                copy[i + 1] = ((Node) array[i + 1]).with(shift + BITS, hash, key, value, added);
+            } else if (key.equals(k)) {
+                copy[i + 1] = value;
+            } else {
+                copy[i] = null;
+                copy[i + 1] = pair(shift + BITS, k, array[i + 1], hash, key, value);
+                added[0] = true;
+            }
+            return new BitmapNode(bitmap, copy);
+        }
+
+        @Override
+        Node without(final int shift, final int hash, final Object key) {
+            int bit = bit(hash, shift);
+            int i = index(bit);
+            if (array[i] == null) {
+                Node child = ((Node) array[i + 1]).without(shift + BITS, hash, key);
+                if (child != null) {
+                    Object[] copy = array.clone();
+                    copy[i + 1] = child;
+                    return new BitmapNode(bitmap, copy);
+                }
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new BitmapNode(bitmap ^ bit, copy);
+        }
+
+        private static Node pair(final int shift, final Object k1, final Object v1, final int h2, final Object k2,
+                                 final Object v2) {
+            int h1 = hash(k1);
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[] {k1, v1, k2, v2});
+            }
+            boolean[] added = new boolean[1];
+            return new BitmapNode(bit(h1, shift), new Object[] {k1, v1}).with(shift, h2, k2, v2, added);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+        private static final long serialVersionUID = 1L;
+        private final int hash;
+
+        CollisionNode(final int hash, final Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(final int shift, final int hash, final Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        Node with(final int shift, final int hash, final Object key, final Object value, final boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(bit(this.hash, shift), new Object[] {null, this})
+                    .with(shift, hash, key, value, added);
+            }
+            int i = indexOf(key);
+            Object[] copy;
+            if (i < 0) {
+                copy = new Object[array.length + 2];
+                System.arraycopy(array, 0, copy, 0, array.length);
+                copy[array.length] = key;
+                copy[array.length + 1] = value;
+                added[0] = true;
+            } else {
+                copy = array.clone();
+                copy[i + 1] = value;
+            }
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        Node without(final int shift, final int hash, final Object key) {
+            if (array.length == PAIR_LENGTH) {
+                return null;
+            }
+            int i = indexOf(key);
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new CollisionNode(hash, copy);
+        }
+    }
+
+    /**
+     * Depth-first iterator over the trie using an explicit stack of node arrays and positions.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+
+        EntryIterator(final Node root) {
+            arrays[0] = root.array;
+            advance();
+        }
+
+        /**
+         * Moves to the next key-value pair, descending into child nodes and leaving exhausted ones.
+         */
+        private void advance() {
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int position = positions[depth];
+                if (position >= array.length) {
+                    depth--;
+                } else if (array[position] == null) {
+                    positions[depth] += 2;
+                    depth++;
+                    arrays[depth] = ((Node) array[position + 1]).array;
+                    positions[depth] = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (depth < 0) {
+                throw new NoSuchElementException();
+            }
+            Object[] array = arrays[depth];
+            int position = positions[depth];
+            positions[depth] += 2;
+            advance();
+            return new SimpleImmutableEntry<>((K) array[position], (V) array[position + 1]);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import java.util.stream.IntStream;
+
+/**
+ * Bulk range checks over primitive arrays used by {@link Errors}.
+ * <p>
+ * Each chunk is scanned twice: a branch-free counting loop the JIT can vectorize, and only if that finds values
+ * out of range, a second loop collecting their indices into an exactly sized array. Parallel scans split the array
+ * into chunks processed by the common fork-join pool and concatenate the chunk results in order.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+final class RangeChecks {
+    static final int[] NONE = {};
+    static final int CHUNK_SIZE = 1 << 16;
+    static final int MAX_DESCRIBED_RANGES = 10;
+
+    private RangeChecks() {
+    }
+
+    static int[] outside(final int[] values, final int min, final int max, final boolean parallel) {
+        if (!parallel || values.length <= CHUNK_SIZE) {
+            return outside(values, 0, values.length, min, max);
+        }
+        return concat(IntStream.range(0, chunks(values.length))
+                               .parallel()
+                               .mapToObj(c -> outside(values, c * CHUNK_SIZE, end(c, values.length), min, max))
+                               .toArray(int[][]::new));
+    }
+
+    static int[] outside(final long[] values, final long min, final long max, final boolean parallel) {
+        if (!parallel || values.length <= CHUNK_SIZE) {
+            return outside(values, 0, values.length, min, max);
+        }
+        return concat(IntStream.range(0, chunks(values.length))
+                               .parallel()
+                               .mapToObj(c -> outside(values, c * CHUNK_SIZE, end(c, values.length), min, max))
+                               .toArray(int[][]::new));
+    }
+
+    static int[] outside(final double[] values, final double min, final double max, final boolean parallel) {
+        if (!parallel || values.length <= CHUNK_SIZE) {
+            return outside(values, 0, values.length, min, max);
+        }
+        return concat(IntStream.range(0, chunks(values.length))
+                               .parallel()
+                               .mapToObj(c -> outside(values, c * CHUNK_SIZE, end(c, values.length), min, max))
+                               .toArray(int[][]::new));
+    }
+
+    /**
+     * Describes indices in ascending order compactly, joining consecutive indices to ranges, e.g.
+     * {@code " (at indices 1, 4-7)"}. Only the first {@value #MAX_DESCRIBED_RANGES} ranges are listed, followed by
+     * the number of remaining indices, e.g. {@code " (at indices 0, 2, ..., 18 and 40 more)"}.
+     */
+    static String describe(final int[] indices) {
+        StringBuilder sb = new StringBuilder(32 + Math.min(indices.length, MAX_DESCRIBED_RANGES) * 8);
+        sb.append(indices.length == 1 ? " (at index " : " (at indices ");
+        int i = 0;
+        int ranges = 0;
+        while (i < indices.length) {
+            if (ranges == MAX_DESCRIBED_RANGES) {
+                sb.append(" and ").append(indices.length - i).append(" more");
+                break;
+            }
+            if (i > 0) {
+                sb.append(", ");
+            }
+            ranges++;
+            int first = indices[i];
+            int last = first;
+            while (i + 1 < indices.length && indices[i + 1] == last + 1) {
+                last = indices[++i];
+            }
+            sb.append(first);
+            if (last != first) {
+                sb.append('-').append(last);
+            }
+            i++;
+        }
+        return sb.append(')').toString();
+    }
+
+    private static int[] outside(final int[] values, final int from, final int to, final int min, final int max) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int v = values[i];
+            count += v < min | v > max ? 1 : 0;
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        int[] indices = new int[count];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            int v = values[i];
+            if (v < min || v > max) {
+                indices[n++] = i;
+            }
+        }
+        return indices;
+    }
+
+    private static int[] outside(final long[] values, final int from, final int to, final long min, final long max) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            long v = values[i];
+            count += v < min | v > max ? 1 : 0;
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        int[] indices = new int[count];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            long v = values[i];
+            if (v < min || v > max) {
+                indices[n++] = i;
+            }
+        }
+        return indices;
+    }
+
+    private static int[] outside(final double[] values, final int from, final int to, final double min,
+                                 final double max) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            double v = values[i];
+            // negated to count NaN as out of range
+            count += v >= min & v <= max ? 0 : 1;
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        int[] indices = new int[count];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            double v = values[i];
+            if (!(v >= min && v <= max)) {
+                indices[n++] = i;
+            }
+        }
+        return indices;
+    }
+
+    static int chunks(final int length) {
+        return (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    static int end(final int chunk, final int length) {
+        return (int) Math.min((long) (chunk + 1) * CHUNK_SIZE, length);
+    }
+
+    static int[] concat(final int[][] chunks) {
+        int length = 0;
+        for (int[] chunk : chunks) {
+            length += chunk.length;
+        }
+        if (length == 0) {
+            return NONE;
+        }
+        int[] result = new int[length];
+        int offset = 0;
+        for (int[] chunk : chunks) {
+            System.arraycopy(chunk, 0, result, offset, chunk.length);
+            offset += chunk.length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+/**
+ * Specification of functional interface used by {@link FileValidation} to check a single record.
+ *
+ * @author Christian Winkler
+ * @since 1.4.0
+ */
+@FunctionalInterface
+public interface RecordCheck {
+    /**
+     * Checks a record; called concurrently by parallel validations.
+     *
+     * @param record record without line terminator; only valid during the call, use {@code toString()} to keep it
+     * @param errors errors of the current record, tagged with its line number by the caller
+     */
+    void check(CharSequence record, Errors errors);
+}
@@ -18,6 +18,7 @@ package de.cwkr.util;
 import org.apache.commons.lang3.Validate;
 
 import java.util.*;
+import java.util.stream.Collector;
 
 /**
  * Provides utility methods for {@link Set} instances.
@@ -40,6 +41,19 @@ public final class Sets {
         return new LinkedHashSet<>();
     }
 
+    /**
+     * Creates an empty thread-safe {@link Set} keeping insertion-order, backed by
+     * {@link Maps#concurrentOrderedMap()}. Reads never block, new elements are appended without locking and
+     * iterators are weakly consistent. {@code null} elements are not permitted.
+     *
+     * @param <T> element type
+     * @return set instance
+     * @since 1.4.0
+     */
+    public static <T> Set<T> concurrentOrderedSet() {
+        return Collections.newSetFromMap(new ConcurrentOrderedMap<>());
+    }
+
     /**
      * Creates an {@link LinkedHashSet} containing one element.
      *
@@ -95,7 +109,7 @@ public final class Sets {
      */
     public static <T> Set<T> unmodifiableSetOf(final T element) {
         Validate.notNull(element);
-        return Collections.singleton(element);
+        return ImmutableOrderedSet.fromTrustedArray(new Object[] {element});
     }
 
     /**
@@ -109,7 +123,8 @@ public final class Sets {
      */
     @SafeVarargs
     public static <T> Set<T> unmodifiableSetOf(final T... elements) {
-        return Collections.unmodifiableSet(orderedSetOf(elements));
+        Validate.noNullElements(elements);
+        return ImmutableOrderedSet.fromTrustedArray(Arrays.copyOf(elements, elements.length, Object[].class));
     }
 
     /**
@@ -122,6 +137,48 @@ public final class Sets {
      * @throws IllegalArgumentException if an element is {@code null}
      */
     public static <T> Set<T> unmodifiableSetOf(final Collection<? extends T> collection) {
-        return Collections.unmodifiableSet(orderedSetOf(collection));
+        Validate.notNull(collection);
+        if (collection instanceof ImmutableOrderedSet) {
+            @SuppressWarnings("unchecked")
+            Set<T> set = (Set<T>) collection;
+            return set;
+        }
+        // deduplicated in place, so the array must not be shared with the collection
+        Object[] elements = ImmutableLists.toArray(collection);
+        Validate.noNullElements(elements, "The validated collection contains null element at index: %d");
+        return ImmutableOrderedSet.fromTrustedArray(elements);
+    }
+
+    /**
+     * Returns a {@link Collector} accumulating elements into a {@link LinkedHashSet} keeping encounter-order.
+     * Elements are gathered in growing chunks and added to a set sized for all of them, so the set is never
+     * rehashed; parallel results are combined by concatenating their chunks.
+     *
+     * @param <T> element type
+     * @return collector instance
+     * @throws NullPointerException on collecting a {@code null} element
+     * @since 1.4.0
+     */
+    public static <T> Collector<T, ?, Set<T>> toOrderedSet() {
+        return ChunkedBuffer.collector(buffer -> {
+            Set<T> set = new LinkedHashSet<>(Maps.capacity(buffer.size()));
+            buffer.forEach(set::add);
+            return set;
+        });
+    }
+
+    /**
+     * Returns a {@link Collector} accumulating elements into an immutable {@link Set} keeping encounter-order as
+     * created by {@link #unmodifiableSetOf(Object...)}; the first of duplicate elements is kept. Elements are
+     * gathered in growing chunks, parallel results are combined by concatenating their chunks and the set is built
+     * from a single exactly sized array.
+     *
+     * @param <T> element type
+     * @return collector instance
+     * @throws NullPointerException on collecting a {@code null} element
+     * @since 1.4.0
+     */
+    public static <T> Collector<T, ?, Set<T>> toUnmodifiableSet() {
+        return ChunkedBuffer.collector(buffer -> ImmutableOrderedSet.fromTrustedArray(buffer.toArray()));
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class CacheMapTests {
+    @Test
+    public void lruEvictsLeastRecentlyUsed() {
+        CacheMap<String, Integer> cache = Maps.cacheMap(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, cache.get("a"));
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(1, cache.getHitCount());
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(3, cache.getWeightedSize());
+    }
+
+    @Test
+    public void tinyLfuKeepsFrequentEntriesThroughScans() {
+        CacheMap<Integer, Integer> cache = Maps.<Integer, Integer>cacheMapBuilder()
+                                               .maximumSize(100)
+                                               .eviction(CacheMap.Eviction.TINY_LFU)
+                                               .build();
+        for (int round = 0; round < 20; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+        for (int key = 1_000; key < 11_000; key++) {
+            cache.put(key, key);
+        }
+        cache.cleanUp();
+        assertEquals(100, cache.size());
+        int retained = 0;
+        for (int key = 0; key < 50; key++) {
+            retained += cache.containsKey(key) ? 1 : 0;
+        }
+        assertTrue(retained >= 45, "retained " + retained);
+    }
+
+    @Test
+    public void tinyLfuWithUnboundedMaximum() {
+        CacheMap<Integer, Integer> bySize = Maps.<Integer, Integer>cacheMapBuilder()
+                                                .maximumSize(Long.MAX_VALUE)
+                                                .eviction(CacheMap.Eviction.TINY_LFU)
+                                                .build();
+        CacheMap<Integer, Integer> byWeight = Maps.<Integer, Integer>cacheMapBuilder()
+                                                  .maximumWeight(Long.MAX_VALUE, (key, value) -> Integer.MAX_VALUE)
+                                                  .eviction(CacheMap.Eviction.TINY_LFU)
+                                                  .build();
+        for (int key = 0; key < 10_000; key++) {
+            bySize.put(key, key);
+            byWeight.put(key, key);
+            assertEquals(key / 2, bySize.get(key / 2));
+            assertEquals(key / 2, byWeight.get(key / 2));
+        }
+        bySize.cleanUp();
+        byWeight.cleanUp();
+        assertEquals(10_000, bySize.size());
+        assertEquals(10_000, byWeight.size());
+    }
+
+    @Test
+    public void weightBound() {
+        CacheMap<String, String> cache = Maps.<String, String>cacheMapBuilder()
+                                             .maximumWeight(10, (key, value) -> value.length())
+                                             .build();
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(9, cache.getWeightedSize());
+        cache.put("a", "1");
+        assertEquals(5, cache.getWeightedSize());
+        cache.put("c", "123456");
+        assertEquals(2, cache.size());
+        assertFalse(cache.containsKey("b"));
+        assertEquals(7, cache.getWeightedSize());
+    }
+
+    @Test
+    public void expireAfterWrite() {
+        AtomicLong time = new AtomicLong();
+        CacheMap<String, Integer> cache = Maps.<String, Integer>cacheMapBuilder()
+                                              .maximumSize(10)
+                                              .expireAfterWrite(Duration.ofNanos(100))
+                                              .ticker(time::get)
+                                              .build();
+        cache.put("a", 1);
+        time.set(50);
+        cache.put("b", 2);
+        time.set(120);
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        assertNull(cache.putIfAbsent("a", 3));
+        assertEquals(3, cache.get("a"));
+        time.set(160);
+        cache.cleanUp();
+        assertEquals(1, cache.size());
+        assertFalse(cache.containsKey("b"));
+        assertEquals(1, cache.getWeightedSize());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void concurrentMapOperations() {
+        CacheMap<String, Integer> cache = Maps.cacheMap(10);
+        assertNull(cache.putIfAbsent("a", 1));
+        assertEquals(1, cache.putIfAbsent("a", 2));
+        assertEquals(1, cache.replace("a", 3));
+        assertNull(cache.replace("b", 3));
+        assertTrue(cache.replace("a", 3, 4));
+        assertFalse(cache.remove("a", 3));
+        assertTrue(cache.remove("a", 4));
+        cache.put("c", 5);
+        assertEquals(5, cache.remove("c"));
+        cache.put("d", 6);
+        cache.entrySet().removeIf(e -> e.getValue() == 6);
+        assertTrue(cache.isEmpty());
+        assertEquals(0, cache.getWeightedSize());
+        assertThrows(NullPointerException.class, () -> cache.put("e", null));
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        assertThrows(IllegalStateException.class, () -> Maps.cacheMapBuilder().build());
+        assertThrows(IllegalStateException.class,
+                     () -> Maps.<String, String>cacheMapBuilder()
+                               .maximumSize(1)
+                               .maximumWeight(1, (k, v) -> 1)
+                               .build());
+        assertThrows(IllegalArgumentException.class, () -> Maps.cacheMap(-1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Maps.cacheMapBuilder().expireAfterWrite(Duration.ZERO));
+    }
+
+    @Test
+    public void staysBoundedUnderConcurrentAccess() throws InterruptedException {
+        for (CacheMap.Eviction eviction : CacheMap.Eviction.values()) {
+            CacheMap<Integer, Integer> cache = Maps.<Integer, Integer>cacheMapBuilder()
+                                                   .maximumSize(500)
+                                                   .eviction(eviction)
+                                                   .build();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                executor.execute(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50_000; i++) {
+                        int key = random.nextInt(2_000);
+                        if (cache.get(key) == null) {
+                            cache.put(key, key);
+                        } else if (i % 100 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+            cache.cleanUp();
+            assertTrue(cache.size() <= 500);
+            assertEquals(cache.size(), cache.getWeightedSize());
+            assertEquals(400_000, cache.getHitCount() + cache.getMissCount());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import org.junit.jupiter.api.Test;
+
+public class DoubleListTests {
+    @Test
+    public void growable() {
+        DoubleList list = Lists.doubleListOf(0.5, Double.NaN);
+        list.addDouble(-0.0);
+        assertEquals(Arrays.asList(0.5, Double.NaN, -0.0), list);
+        assertEquals(1, list.indexOfDouble(Double.NaN));
+        assertEquals(-1, list.indexOfDouble(0.0));
+        assertTrue(list.contains(-0.0));
+        assertEquals(0.5, list.doubleStream().limit(1).sum());
+    }
+
+    @Test
+    public void unmodifiable() {
+        DoubleList list = Lists.unmodifiableDoubleListOf(1.0);
+        assertTrue(list.isImmutable());
+        assertThrows(UnsupportedOperationException.class, () -> list.setDouble(0, 2.0));
+    }
+
+    @Test
+    public void spliteratorLateBindingAndFailFast() {
+        DoubleList list = Lists.doubleListOf(1.0, 2.0);
+        Spliterator.OfDouble spliterator = list.spliterator();
+        list.addDouble(3.0);
+        assertEquals(3, spliterator.estimateSize());
+        assertThrows(ConcurrentModificationException.class, () -> list.doubleStream().forEach(list::addDouble));
+    }
+}
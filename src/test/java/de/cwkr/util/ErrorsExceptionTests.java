@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static de.cwkr.util.Lists.listOf;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ErrorsExceptionTests {
+    private static final ErrorsException INVALID = new ErrorsException("invalid", emptyList());
+
+    @Test
+    public void throwErrors() {
+        Errors errors = new Errors(listOf("one", "two"));
+        ErrorsException exception = assertThrows(ErrorsException.class, () -> errors.throwErrors(
+            ErrorsException::new, "There were {} errors", errors.countErrors()));
+        assertEquals("There were 2 errors", exception.getMessage());
+        assertEquals(listOf("one", "two"), exception.getErrors());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void keepsErrorsWithoutCopying() {
+        List<String> list = listOf("one");
+        assertSame(list, new ErrorsException("invalid", list).getErrors());
+    }
+
+    @Test
+    public void suppressionDisabled() {
+        ErrorsException exception = new ErrorsException("invalid", emptyList());
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    public void reusable() {
+        for(int i = 0; i < 3; i++) {
+            Errors errors = new Errors(listOf("one"));
+            assertSame(INVALID, assertThrows(ErrorsException.class, () -> errors.throwErrors((msg, list) -> INVALID,
+                "invalid")));
+        }
+        assertEquals(0, INVALID.getStackTrace().length);
+    }
+
+    @Test
+    public void writableStackTrace() {
+        ErrorsException exception = new ErrorsException("invalid", emptyList(), true) {
+            private static final long serialVersionUID = 1L;
+        };
+        assertEquals(ErrorsExceptionTests.class.getName(), exception.getStackTrace()[0].getClassName());
+    }
+}
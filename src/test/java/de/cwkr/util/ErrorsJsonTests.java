@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static de.cwkr.util.Lists.listOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+public class ErrorsJsonTests {
+    @Test
+    public void toJson() {
+        Errors errors = new Errors(listOf("one", "two"));
+        assertEquals("{\"count\":2,\"errors\":[\"one\",\"two\"]}", ErrorsJson.toJson(errors));
+    }
+
+    @Test
+    public void toJson_empty() {
+        assertEquals("{\"count\":0,\"errors\":[]}", ErrorsJson.toJson(new Errors()));
+    }
+
+    @Test
+    public void toJson_escaping() {
+        Errors errors = new Errors(listOf("\"quoted\" \\ back\nslash\t\u0001 "));
+        assertEquals("{\"count\":1,\"errors\":[\"\\\"quoted\\\" \\\\ back\\nslash\\t\\u0001\\u2028\"]}",
+            ErrorsJson.toJson(errors));
+    }
+
+    @Test
+    public void toJson_aggregating() {
+        Errors errors = Errors.aggregating();
+        errors.addErrors("one", "one", "one");
+        assertEquals("{\"count\":3,\"errors\":[\"one (3 occurrences)\"],"
+            + "\"aggregatedErrors\":[{\"template\":\"one\",\"count\":3}]}", ErrorsJson.toJson(errors));
+    }
+
+    @Test
+    public void writeWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+        ErrorsJson.write(new Errors(listOf("one")), writer);
+        assertEquals("{\"count\":1,\"errors\":[\"one\"]}", writer.toString());
+    }
+
+    @Test
+    public void writeOutputStream() throws IOException {
+        String message = "Größe € 😀 " + StringUtils.repeat('x', 10_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ErrorsJson.write(new Errors(listOf(message)), out);
+        assertEquals("{\"count\":1,\"errors\":[\"" + message + "\"]}", new String(out.toByteArray(),
+            StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeOutputStream_unpairedSurrogate() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ErrorsJson.write(new Errors(listOf("a\ud83db\ude00")), out);
+        assertEquals("{\"count\":1,\"errors\":[\"a?b?\"]}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeEscaping() throws IOException {
+        Errors errors = new Errors(listOf("say \"hi\"\n", "plain"));
+        String expected = "{\"count\":2,\"errors\":[\"say \\\"hi\\\"\\n\",\"plain\"]}";
+        StringWriter writer = new StringWriter();
+        ErrorsJson.write(errors, writer);
+        assertEquals(expected, writer.toString());
+        CharBuffer buffer = CharBuffer.allocate(64);
+        ErrorsJson.write(errors, buffer);
+        assertEquals(expected, ((CharBuffer) buffer.flip()).toString());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ErrorsMetricsTests {
+    @Test
+    public void countsChecksAndFailures() {
+        ErrorsMetrics metrics = new ErrorsMetrics();
+        Errors errors = new Errors();
+        errors.addListener(metrics);
+        errors.isNotBlank("Test", "str must not be blank");
+        errors.isNotBlank(" ", "str must not be blank");
+        errors.isTrue(true, "bool must be true");
+        errors.addError("custom");
+
+        assertEquals(3, metrics.getCheckCount());
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(2, metrics.getErrorCount());
+        assertEquals(2, metrics.getRules().size());
+
+        ErrorsMetrics.Rule rule = metrics.getRules().get("str must not be blank");
+        assertEquals(2, rule.getCheckCount());
+        assertEquals(1, rule.getFailureCount());
+        assertTrue(rule.getTotalNanos() >= 0);
+    }
+
+    @Test
+    public void sharedBetweenErrors() {
+        ErrorsMetrics metrics = new ErrorsMetrics();
+        for(int i = 0; i < 10; i++) {
+            Errors errors = new Errors();
+            errors.addListener(metrics);
+            errors.isBetween(i, 0, 4, "must be in range 0-4");
+        }
+        assertEquals(10, metrics.getRules().get("must be in range 0-4").getCheckCount());
+        assertEquals(5, metrics.getFailureCount());
+    }
+
+    @Test
+    public void limitsTrackedRules() {
+        ErrorsMetrics metrics = new ErrorsMetrics(3);
+        Errors errors = new Errors();
+        errors.addListener(metrics);
+        for(int i = 0; i < 10; i++) {
+            errors.isTrue(i % 2 == 0, "rule " + i);
+        }
+        errors.isTrue(true, "rule 0");
+        assertEquals(4, metrics.getRules().size());
+        assertEquals(2, metrics.getRules().get("rule 0").getCheckCount());
+        ErrorsMetrics.Rule other = metrics.getRules().get(ErrorsMetrics.OTHER_RULES);
+        assertEquals(7, other.getCheckCount());
+        assertEquals(4, other.getFailureCount());
+        assertThrows(IllegalArgumentException.class, () -> new ErrorsMetrics(0));
+    }
+
+    @Test
+    public void reset() {
+        ErrorsMetrics metrics = new ErrorsMetrics();
+        Errors errors = new Errors();
+        errors.addListener(metrics);
+        errors.isTrue(false, "bool must be true");
+        metrics.reset();
+        assertEquals(0, metrics.getCheckCount());
+        assertTrue(metrics.getRules().isEmpty());
+    }
+
+    @Test
+    public void removeListener() {
+        ErrorsMetrics metrics = new ErrorsMetrics();
+        Errors errors = new Errors();
+        errors.addListener(metrics);
+        errors.removeListener(metrics);
+        errors.isTrue(false, "bool must be true");
+        assertEquals(0, metrics.getCheckCount());
+        assertTrue(errors.hasErrors());
+    }
+}
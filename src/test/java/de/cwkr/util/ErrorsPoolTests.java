@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static de.cwkr.util.Lists.listOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ErrorsPoolTests {
+    @Test
+    public void acquireAndRelease() {
+        ErrorsPool pool = new ErrorsPool(2);
+        Errors errors = pool.acquire();
+        errors.addError("one");
+        pool.release(errors);
+        assertEquals(1, pool.size());
+
+        Errors reused = pool.acquire();
+        assertNotSame(errors, reused);
+        assertFalse(reused.hasErrors());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void useAfterRelease() {
+        ErrorsPool pool = new ErrorsPool(1);
+        Errors errors = pool.acquire();
+        pool.release(errors);
+        assertTrue(errors.isReleased());
+        assertThrows(IllegalStateException.class, () -> errors.isTrue(false, "must be true"));
+        assertThrows(IllegalStateException.class, () -> errors.addError("one"));
+        assertThrows(IllegalStateException.class, errors::getErrors);
+        assertThrows(IllegalStateException.class, () -> pool.release(errors));
+    }
+
+    @Test
+    public void snapshotsStayIsolated() {
+        ErrorsPool pool = new ErrorsPool(1);
+        Errors errors = pool.acquire();
+        errors.addErrors("one", "two");
+        List<String> snapshot = errors.getErrors();
+        pool.release(errors);
+
+        Errors reused = pool.acquire();
+        reused.addError("three");
+        assertEquals(listOf("one", "two"), snapshot);
+        assertEquals(listOf("three"), reused.getErrors());
+    }
+
+    @Test
+    public void bounded() {
+        ErrorsPool pool = new ErrorsPool(1);
+        Errors one = pool.acquire();
+        Errors two = pool.acquire();
+        pool.release(one);
+        pool.release(two);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void factory() {
+        ErrorsPool pool = new ErrorsPool(1, Errors::aggregating);
+        Errors errors = pool.acquire();
+        assertTrue(errors.isAggregating());
+        pool.release(errors);
+        assertTrue(pool.acquire().isAggregating());
+    }
+
+    @Test
+    public void staleHandleAfterReacquire() {
+        ErrorsPool pool = new ErrorsPool(1);
+        Errors stale = pool.acquire();
+        Errors staleScope = stale.scope("order");
+        pool.release(stale);
+
+        Errors current = pool.acquire();
+        assertTrue(stale.isReleased());
+        assertTrue(staleScope.isReleased());
+        assertFalse(current.isReleased());
+        assertThrows(IllegalStateException.class, () -> stale.addError("stale"));
+        assertThrows(IllegalStateException.class, () -> staleScope.isTrue(false, "stale"));
+        assertThrows(IllegalStateException.class, () -> pool.release(stale));
+        current.addError("current");
+        assertEquals(listOf("current"), current.getErrors());
+        pool.release(current);
+        assertEquals(1, pool.size());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static de.cwkr.util.Lists.listOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ErrorsSubscriptionTests {
+    @Test
+    public void subscribe() {
+        Errors errors = new Errors();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        ErrorsSubscription subscription = errors.subscribe(subscriber);
+        assertEquals(subscription, subscriber.subscription);
+        errors.isNotBlank(" ", "must not be blank");
+        errors.scope("items", 2).isNotNull(null, "{} must not be null", "price");
+        errors.addError("failed");
+        assertEquals(listOf("must not be blank", "items[2]: price must not be null", "failed"), subscriber.received);
+        assertFalse(subscriber.completed);
+        errors.completeSubscriptions();
+        assertTrue(subscriber.completed);
+        errors.addError("ignored");
+        assertEquals(3, subscriber.received.size());
+    }
+
+    @Test
+    public void subscribeAggregating() {
+        Errors errors = Errors.aggregating();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        errors.subscribe(subscriber);
+        errors.isTrue(false, "invalid {}", 1);
+        errors.isTrue(false, "invalid {}", 2);
+        assertEquals(listOf("invalid 1", "invalid 2"), subscriber.received);
+        assertEquals(listOf("invalid 1 (2 occurrences)"), errors.getErrors());
+    }
+
+    @Test
+    public void request() {
+        Errors errors = new Errors();
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        errors.subscribe(subscriber);
+        errors.addErrors("one", "two", "three");
+        errors.completeSubscriptions();
+        assertEquals(listOf("one"), subscriber.received);
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(5);
+        assertEquals(listOf("one", "two", "three"), subscriber.received);
+        assertTrue(subscriber.completed);
+        assertThrows(IllegalArgumentException.class, () -> subscriber.subscription.request(0));
+    }
+
+    @Test
+    public void backpressure() throws InterruptedException {
+        Errors errors = new Errors();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        errors.subscribe(subscriber, 2);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                errors.addError("error " + i);
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive());
+        assertEquals(3, errors.countErrors());
+        assertTrue(subscriber.received.isEmpty());
+        subscriber.subscription.request(5);
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        assertEquals(listOf("error 0", "error 1", "error 2", "error 3", "error 4"), subscriber.received);
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        Errors errors = new Errors();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        errors.subscribe(subscriber, 1);
+        Thread producer = new Thread(() -> errors.addErrors("one", "two", "three"));
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive());
+        subscriber.subscription.cancel();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        assertTrue(subscriber.subscription.isCancelled());
+        assertTrue(subscriber.received.isEmpty());
+        assertEquals(3, errors.countErrors());
+    }
+
+    @Test
+    public void streaming() {
+        Errors errors = Errors.streaming();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        errors.subscribe(subscriber);
+        errors.isNotBlank("", "must not be blank");
+        errors.addError("failed");
+        assertFalse(errors.isRetaining());
+        assertTrue(errors.hasErrors());
+        assertEquals(2, errors.countErrors());
+        assertTrue(errors.getErrors().isEmpty());
+        assertEquals(listOf("must not be blank", "failed"), subscriber.received);
+        errors.reset();
+        assertFalse(errors.hasErrors());
+        assertTrue(new Errors().isRetaining());
+    }
+
+    @Test
+    public void releaseCompletesSubscriptions() {
+        ErrorsPool pool = new ErrorsPool(1);
+        Errors errors = pool.acquire();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        errors.subscribe(subscriber);
+        errors.addError("failed");
+        pool.release(errors);
+        assertTrue(subscriber.completed);
+        assertEquals(listOf("failed"), subscriber.received);
+        pool.acquire().addError("next request");
+        assertEquals(1, subscriber.received.size());
+    }
+
+    @Test
+    public void failingSubscriber() {
+        Errors errors = new Errors();
+        ErrorsSubscription subscription = errors.subscribe(new ErrorsSubscriber() {
+            @Override
+            public void onSubscribe(final ErrorsSubscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final String error) {
+                throw new IllegalStateException("subscriber failed");
+            }
+        });
+        errors.addError("one");
+        errors.isTrue(false, "two");
+        assertTrue(subscription.isCancelled());
+        assertEquals(listOf("one", "two"), errors.getErrors());
+    }
+
+    @Test
+    public void interruptedPublish() {
+        Errors errors = new Errors();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        errors.subscribe(subscriber, 1);
+        Thread.currentThread().interrupt();
+        errors.addError("one");
+        assertTrue(Thread.interrupted());
+        assertEquals(1, subscriber.subscription.getDiscardedCount());
+        assertEquals(1, errors.countErrors());
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    private static final class RecordingSubscriber implements ErrorsSubscriber {
+        private final long initialDemand;
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private volatile ErrorsSubscription subscription;
+        private volatile boolean completed;
+
+        private RecordingSubscriber(final long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(final ErrorsSubscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(final String error) {
+            received.add(error);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -24,13 +24,27 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -353,4 +367,516 @@ public class ErrorsTests {
         errors.isNotEqual("Test", "Test", "must not be equal");
         assertTrue(errors.hasErrors());
     }
+
+    @Test
+    public void aggregating() {
+        Errors errors = Errors.aggregating(2);
+        for(int i = 0; i < 1000; i++) {
+            errors.isBetween(i, 0, 9, "must be in range 0-9: {}", i);
+        }
+        errors.addError("one");
+        assertTrue(errors.isAggregating());
+        assertEquals(991, errors.countErrors());
+        assertEquals(listOf("must be in range 0-9: 10 (990 occurrences)", "one"), errors.getErrors());
+
+        AggregatedError aggregatedError = errors.getAggregatedErrors().get(0);
+        assertEquals("must be in range 0-9: {}", aggregatedError.getTemplate());
+        assertEquals(990, aggregatedError.getCount());
+        assertEquals(listOf(singletonList(10), singletonList(11)), aggregatedError.getSamples());
+    }
+
+    @Test
+    public void aggregating_withoutSamples() {
+        Errors errors = Errors.aggregating(0);
+        errors.isBetween(10, 0, 9, "value {} must be in range 0-9", 10);
+        errors.isBetween(11, 0, 9, "value {} must be in range 0-9", 11);
+        AggregatedError aggregatedError = errors.getAggregatedErrors().get(0);
+        assertEquals(2, aggregatedError.getCount());
+        assertTrue(aggregatedError.getSamples().isEmpty());
+        assertEquals("value  must be in range 0-9", aggregatedError.getMessage());
+        assertEquals(listOf("value  must be in range 0-9 (2 occurrences)"), errors.getErrors());
+    }
+
+    @Test
+    public void aggregating_reset() {
+        Errors errors = Errors.aggregating();
+        errors.isTrue(false, "must be true");
+        assertTrue(errors.hasErrors());
+        errors.reset();
+        assertFalse(errors.hasErrors());
+        assertEquals(0, errors.countErrors());
+        assertTrue(errors.getAggregatedErrors().isEmpty());
+    }
+
+    @Test
+    public void aggregating_logErrors(@Mock Logger logger) {
+        Errors errors = Errors.aggregating();
+        errors.addErrors("one", "one", "two");
+        errors.logErrors(logger);
+        verify(logger).error("one (2 occurrences)");
+        verify(logger).error("two");
+    }
+
+    @Test
+    public void aggregating_throwErrors() {
+        Errors errors = Errors.aggregating();
+        errors.addErrors("one", "one", "one");
+        CustomException exception = assertThrows(CustomException.class, () -> errors.throwErrors(CustomException::new,
+            "There were {} errors", errors.countErrors()));
+        assertEquals("There were 3 errors", exception.getMessage());
+        assertEquals(singletonList("one (3 occurrences)"), exception.getErrors());
+    }
+
+    @Test
+    public void listener(@Mock ErrorsListener listener) {
+        Errors errors = new Errors();
+        errors.addListener(listener);
+        errors.isNotNull(null, "obj must not be null");
+        errors.isNull(null, "obj must be null");
+        verify(listener).onCheck(eq("isNotNull"), eq("obj must not be null"), eq(false), anyLong());
+        verify(listener).onCheck(eq("isNull"), eq("obj must be null"), eq(true), anyLong());
+        verify(listener).onError(eq("obj must not be null"), any());
+    }
+
+    @Test
+    public void getErrors_snapshot() {
+        Errors errors = new Errors(listOf("one"));
+        List<String> snapshot = errors.getErrors();
+        errors.addError("two");
+        errors.reset();
+        errors.addError("three");
+        assertEquals(singletonList("one"), snapshot);
+        assertEquals(singletonList("three"), errors.getErrors());
+    }
+
+    @Test
+    public void isTrueAsync() {
+        Set<String> usernames = new HashSet<>(listOf("alice", "bob"));
+        CountDownLatch started = new CountDownLatch(2);
+        BooleanSupplier aliceUnique = () -> slowLookup(started, () -> !usernames.contains("alice"));
+        BooleanSupplier carolUnique = () -> slowLookup(started, () -> !usernames.contains("carol"));
+
+        Errors errors = new Errors();
+        errors.isTrueAsync(aliceUnique, "username {} is taken", "alice");
+        errors.isTrueAsync(carolUnique, "username {} is taken", "carol");
+        errors.isTrueAsync(CompletableFuture.completedFuture(true), "must be true");
+        assertEquals(3, errors.countPendingChecks());
+
+        errors.awaitChecks(Duration.ofSeconds(10));
+        assertEquals(0, errors.countPendingChecks());
+        assertEquals(singletonList("username alice is taken"), errors.getErrors());
+    }
+
+    @Test
+    public void isTrueAsync_timeout() {
+        Errors errors = new Errors();
+        errors.isTrueAsync(new CompletableFuture<>(), "must complete");
+        errors.awaitChecks(Duration.ofMillis(10));
+        assertEquals(singletonList("must complete (timed out)"), errors.getErrors());
+    }
+
+    @Test
+    public void isTrueAsync_failed() {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException("unavailable"));
+        Errors errors = new Errors();
+        errors.isTrueAsync(future, "must be unique");
+        errors.awaitChecks(Duration.ofSeconds(1));
+        assertEquals(singletonList("must be unique (check failed)"), errors.getErrors());
+    }
+
+    @Test
+    public void isTrueAsync_reset() {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Errors errors = new Errors();
+        errors.isTrueAsync(future, "must be unique");
+        errors.reset();
+        assertTrue(future.isCancelled());
+        assertEquals(0, errors.countPendingChecks());
+    }
+
+    @Test
+    public void isTrueAsync_timeoutInterruptsCheck() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        BooleanSupplier hanging = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return true;
+        };
+        Errors errors = new Errors();
+        errors.isTrueAsync(hanging, "must complete");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        errors.awaitChecks(Duration.ofMillis(10));
+        assertEquals(singletonList("must complete (timed out)"), errors.getErrors());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void throwErrors_pendingChecks() {
+        Errors errors = new Errors();
+        errors.addError("failed");
+        errors.isTrueAsync(new CompletableFuture<>(), "must complete");
+        assertThrows(IllegalStateException.class, () -> errors.throwErrors(CustomException::new, "invalid"));
+        errors.awaitChecks(Duration.ofMillis(10));
+        assertThrows(CustomException.class, () -> errors.throwErrors(CustomException::new, "invalid"));
+    }
+
+    private static boolean slowLookup(CountDownLatch started, BooleanSupplier lookup) {
+        started.countDown();
+        try {
+            // both lookups must run concurrently to get past the latch
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return lookup.getAsBoolean();
+    }
+
+    @Test
+    public void isBetween_long() {
+        Errors errors = new Errors();
+        errors.isBetween(5_000_000_000L, 0L, 10_000_000_000L, "must be in range");
+        assertFalse(errors.hasErrors());
+        errors.isBetween(-1L, 0L, 10_000_000_000L, "must be in range");
+        assertTrue(errors.hasErrors());
+    }
+
+    @Test
+    public void isBetween_double() {
+        Errors errors = new Errors();
+        errors.isBetween(0.5, 0.0, 1.0, "must be in range");
+        assertFalse(errors.hasErrors());
+        errors.isBetween(Double.NaN, 0.0, 1.0, "must be in range");
+        assertTrue(errors.hasErrors());
+    }
+
+    @Test
+    public void isBetween_bigDecimal() {
+        Errors errors = new Errors();
+        errors.isBetween(new BigDecimal("9.99"), BigDecimal.ZERO, BigDecimal.TEN, "must be in range");
+        assertFalse(errors.hasErrors());
+        errors.isBetween(new BigDecimal("10.01"), BigDecimal.ZERO, BigDecimal.TEN, "must be in range");
+        errors.isBetween(null, BigDecimal.ZERO, BigDecimal.TEN, "must be in range");
+        assertEquals(2, errors.countErrors());
+    }
+
+    @Test
+    public void isEachBetween() {
+        Errors errors = new Errors();
+        errors.isEachBetween(new int[] {1, 2, 3}, 1, 3, "must be in range 1-3");
+        errors.isEachBetween(new long[] {1L, 2L, 3L}, 1L, 3L, "must be in range 1-3");
+        errors.isEachBetween(new double[] {1.0, 2.0, 3.0}, 1.0, 3.0, "must be in range 1-3");
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    public void isEachBetween_error() {
+        Errors errors = new Errors();
+        errors.isEachBetween(new int[] {0, 1, 4, 5, 6, 2, 9}, 1, 3, "{} must be in range 1-3", "value");
+        errors.isEachBetween(new long[] {0L, 1L}, 1L, 3L, "must be in range 1-3");
+        errors.isEachBetween(new double[] {1.0, Double.NaN, 3.5}, 1.0, 3.0, "must be in range 1-3");
+        assertEquals(listOf(
+            "value must be in range 1-3 (at indices 0, 2-4, 6)",
+            "must be in range 1-3 (at index 0)",
+            "must be in range 1-3 (at indices 1-2)"
+        ), errors.getErrors());
+    }
+
+    @Test
+    public void isEachBetween_manyFailures() {
+        int[] values = new int[100];
+        for(int i = 0; i < values.length; i += 2) {
+            values[i] = -1;
+        }
+        Errors errors = new Errors();
+        errors.isEachBetween(values, 0, 1, "must be in range");
+        assertEquals(singletonList("must be in range (at indices 0, 2, 4, 6, 8, 10, 12, 14, 16, 18 and 40 more)"),
+                     errors.getErrors());
+
+        Errors aggregating = Errors.aggregating();
+        aggregating.isEachBetween(values, 0, 1, "{} must be in range", "first");
+        aggregating.isEachBetween(new int[] {-1}, 0, 1, "{} must be in range", "second");
+        assertEquals(1, aggregating.getAggregatedErrors().size());
+        assertEquals("{} must be in range", aggregating.getAggregatedErrors().get(0).getTemplate());
+        assertEquals(listOf("first must be in range (2 occurrences)"), aggregating.getErrors());
+    }
+
+    @Test
+    public void isEachBetweenParallel() {
+        int[] ints = new int[1_000_000];
+        long[] longs = new long[ints.length];
+        double[] doubles = new double[ints.length];
+        for(int i = 0; i < ints.length; i++) {
+            ints[i] = i % 1000;
+            longs[i] = i;
+            doubles[i] = i / 1000.0;
+        }
+        ints[12] = -1;
+        ints[999_999] = -1;
+        Errors errors = new Errors();
+        errors.isEachBetweenParallel(ints, 0, 999, "must be in range");
+        errors.isEachBetweenParallel(longs, 0L, 999_997L, "must be in range");
+        errors.isEachBetweenParallel(doubles, 0.0, 1000.0, "must be in range");
+        assertEquals(listOf(
+            "must be in range (at indices 12, 999999)",
+            "must be in range (at indices 999998-999999)"
+        ), errors.getErrors());
+    }
+
+    @Test
+    public void isMatching() {
+        Errors errors = new Errors();
+        errors.isMatching("ABC-123", Pattern.compile("[A-Z]{3}-\\d{3}"), "must be a code");
+        errors.isMatching("ABC-123", "[A-Z]{3}-\\d{3}", "must be a code");
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    public void isMatching_error() {
+        Errors errors = new Errors();
+        errors.isMatching("abc", Pattern.compile("[A-Z]+"), "must be upper case: {}", "abc");
+        errors.isMatching(null, "[A-Z]+", "must be upper case: {}", (Object) null);
+        assertEquals(listOf("must be upper case: abc", "must be upper case: null"), errors.getErrors());
+    }
+
+    @Test
+    public void isNotMatching() {
+        Errors errors = new Errors();
+        errors.isNotMatching("abc", Pattern.compile("[A-Z]+"), "must not be upper case");
+        errors.isNotMatching(null, "[A-Z]+", "must not be upper case");
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    public void isNotMatching_error() {
+        Errors errors = new Errors();
+        errors.isNotMatching("ABC", Pattern.compile("[A-Z]+"), "must not be upper case");
+        errors.isNotMatching("ABC", "[A-Z]+", "must not be upper case");
+        assertEquals(2, errors.countErrors());
+    }
+
+    @Test
+    public void isMatching_cached() {
+        long misses = PatternCache.defaultCache().getMissCount();
+        Errors errors = new Errors();
+        for(int i = 0; i < 100; i++) {
+            errors.isMatching("id-" + i, "id-\\d+ cached", "must be an id");
+        }
+        assertEquals(misses + 1, PatternCache.defaultCache().getMissCount());
+    }
+
+    @Test
+    public void logErrorsBatched(@Mock Logger logger) {
+        Errors errors = new Errors(listOf("one", "two"));
+        errors.logErrorsBatched(logger);
+        verify(logger).error("2 errors:\n - one\n - two");
+    }
+
+    @Test
+    public void logErrorsBatched_noErrors(@Mock Logger logger) {
+        new Errors().logErrorsBatched(logger);
+        verify(logger, never()).error(anyString());
+    }
+
+    @Test
+    public void logErrorsBatched_rateLimited(@Mock Logger logger) {
+        when(logger.getName()).thenReturn("test");
+        LogRateLimiter limiter = new LogRateLimiter(2, Duration.ofHours(1));
+        for(int i = 0; i < 10; i++) {
+            new Errors(listOf("one")).logErrorsBatched(logger, limiter);
+        }
+        verify(logger, times(2)).error("1 error:\n - one");
+        assertEquals(8, limiter.getSuppressedCount(logger));
+    }
+
+    @Test
+    public void scope() {
+        Errors errors = new Errors();
+        Errors order = errors.scope("order");
+        Errors item = order.scope("items", 3);
+        item.isBetween(-1, 0, 10, "must be positive");
+        item.scope("price").isNotNull(null, "must not be {}", "null");
+        order.addError("incomplete");
+        errors.isTrue(false, "invalid");
+        assertEquals(listOf("order.items[3]: must be positive", "order.items[3].price: must not be null",
+                            "order: incomplete", "invalid"), errors.getErrors());
+        assertEquals(errors.getErrors(), item.getErrors());
+        assertEquals("order.items[3]", item.getPath());
+        assertEquals("", errors.getPath());
+        assertThrows(IllegalArgumentException.class, () -> errors.scope(" "));
+        assertThrows(IllegalArgumentException.class, () -> errors.scope("items", -1));
+    }
+
+    @Test
+    public void scope_aggregating() {
+        Errors errors = Errors.aggregating();
+        for(int i = 0; i < 3; i++) {
+            errors.scope("items").isTrue(false, "invalid item {}", i);
+        }
+        assertEquals(listOf("items: invalid item 0 (3 occurrences)"), errors.getErrors());
+    }
+
+    @Test
+    public void scope_sharedState(@Mock ErrorsListener listener) {
+        Errors errors = new Errors();
+        Errors scoped = errors.scope("items", 0);
+        scoped.addListener(listener);
+        errors.isNotBlank("", "must not be blank");
+        verify(listener).onError("must not be blank", new Object[0]);
+        scoped.isTrueAsync(CompletableFuture.completedFuture(false), "must exist");
+        assertEquals(1, errors.countPendingChecks());
+        errors.awaitChecks(Duration.ofSeconds(1));
+        assertEquals(listOf("must not be blank", "items[0]: must exist"), errors.getErrors());
+        assertThrows(IllegalStateException.class, scoped::reset);
+        assertThrows(IllegalStateException.class, scoped::mark);
+        assertThrows(IllegalStateException.class, () -> scoped.rollbackTo(0));
+        assertEquals(2, errors.countErrors());
+        errors.reset();
+        assertFalse(errors.hasErrors());
+        assertThrows(IllegalArgumentException.class, () -> new ErrorsPool(1).release(scoped));
+    }
+
+    @Test
+    public void messageTemplate() {
+        MessageTemplate notBlank = MessageTemplate.of("{} must not be blank", 1);
+        MessageTemplate positive = MessageTemplate.of("{} must be positive", 1);
+        Errors errors = new Errors();
+        errors.isNotBlank("x", notBlank, "name");
+        errors.isNotBlank(" ", notBlank, "name");
+        errors.scope("items", 1).isBetween(-1L, 0L, 10L, positive, "quantity");
+        errors.isEachBetween(new int[] {1, -1, -2}, 0, 10, positive, "values");
+        assertEquals(listOf("name must not be blank", "items[1]: quantity must be positive",
+                            "values must be positive (at indices 1-2)"), errors.getErrors());
+    }
+
+    @Test
+    public void messageTemplate_aggregating(@Mock ErrorsListener listener) {
+        MessageTemplate notNull = MessageTemplate.of("{} must not be null");
+        Errors errors = Errors.aggregating();
+        errors.addListener(listener);
+        errors.isNotNull(null, notNull, "a");
+        errors.isNotNull(null, notNull, "b");
+        assertEquals(listOf("a must not be null (2 occurrences)"), errors.getErrors());
+        verify(listener, times(2)).onCheck(eq("isNotNull"), eq("{} must not be null"), eq(false), anyLong());
+    }
+
+    @Test
+    public void messageTemplate_async() {
+        Errors errors = new Errors();
+        errors.isTrueAsync(new CompletableFuture<>(), MessageTemplate.of("{} must complete"), "lookup");
+        errors.awaitChecks(Duration.ofMillis(10));
+        assertEquals(listOf("lookup must complete (timed out)"), errors.getErrors());
+    }
+
+    @Test
+    public void isEachNotNull() {
+        Errors errors = new Errors();
+        errors.isEachNotNull(Arrays.asList("a", null, null, "b", null), "must not be null");
+        errors.isEachNotNull(new Object[] {1, 2}, "must not be null");
+        errors.isEachNotNullParallel(new Object[] {null}, "{} must not be null", "values");
+        assertEquals(listOf("must not be null (at indices 1-2, 4)", "values must not be null (at index 0)"),
+                     errors.getErrors());
+    }
+
+    @Test
+    public void isEachNotNull_aggregatingManyFailures(@Mock ErrorsListener listener) {
+        List<String> values = Arrays.asList(new String[100_000]);
+        Errors errors = Errors.aggregating();
+        errors.addListener(listener);
+        for(int i = 0; i < 50; i++) {
+            errors.scope("rows", i).isEachNotNull(values, "{} must not be null", "cell");
+            errors.isEachNotNullParallel(values.toArray(), MessageTemplate.of("{} must not be null"), "cell");
+        }
+        assertEquals(100, errors.countErrors());
+        assertEquals(51, errors.getAggregatedErrors().size());
+        AggregatedError aggregated = errors.getAggregatedErrors().get(1);
+        assertEquals("{} must not be null", aggregated.getTemplate());
+        assertEquals(50, aggregated.getCount());
+        verify(listener, times(100)).onError(eq("{} must not be null"), any());
+
+        Errors retaining = new Errors();
+        retaining.isEachNotNull(values, "must not be null");
+        assertEquals(singletonList("must not be null (at indices 0-99999)"), retaining.getErrors());
+    }
+
+    @Test
+    public void isEachNotBlank() {
+        Errors errors = new Errors();
+        errors.isEachNotBlank(new LinkedHashSet<>(Arrays.asList("a", " ", "c")), "must not be blank");
+        errors.isEachNotBlank(new String[] {"", null}, MessageTemplate.of("{} must not be blank"), "names");
+        assertEquals(listOf("must not be blank (at index 1)", "names must not be blank (at indices 0-1)"),
+                     errors.getErrors());
+    }
+
+    @Test
+    public void isEachBetween_comparable() {
+        Errors errors = new Errors();
+        errors.isEachBetween(Arrays.asList(1, 5, 11, null), 0, 10, "must be between 0 and 10");
+        errors.isEachBetween(new BigDecimal[] {BigDecimal.ONE, BigDecimal.TEN}, BigDecimal.ZERO, BigDecimal.ONE, "too large");
+        assertEquals(listOf("must be between 0 and 10 (at indices 2-3)", "too large (at index 1)"), errors.getErrors());
+        assertThrows(NullPointerException.class, () -> errors.isEachBetween(listOf(1), null, 10, "invalid"));
+    }
+
+    @Test
+    public void isEachMatching() {
+        Pattern digits = Pattern.compile("\\d+");
+        Errors errors = new Errors();
+        errors.isEachMatching(listOf("1", "a", "23"), digits, "must be numeric");
+        errors.isEachMatching(new CharSequence[] {"1", null}, digits, "must be numeric");
+        assertEquals(listOf("must be numeric (at index 1)", "must be numeric (at index 1)"), errors.getErrors());
+    }
+
+    @Test
+    public void isEachParallel() {
+        String[] values = new String[200_000];
+        Arrays.fill(values, "x");
+        values[3] = null;
+        values[70_000] = "";
+        values[199_999] = "-";
+        List<String> list = Arrays.asList(values);
+        Errors errors = new Errors();
+        errors.isEachNotNullParallel(list, "must not be null");
+        errors.isEachNotBlankParallel(values, "must not be blank");
+        errors.isEachMatchingParallel(list, Pattern.compile("x"), "must be x");
+        errors.isEachBetweenParallel(values, "a", "z", "must be a letter");
+        assertEquals(listOf("must not be null (at index 3)", "must not be blank (at indices 3, 70000)",
+                            "must be x (at indices 3, 70000, 199999)",
+                            "must be a letter (at indices 3, 70000, 199999)"), errors.getErrors());
+        Errors sequential = new Errors();
+        sequential.isEachNotNull(list, "must not be null");
+        sequential.isEachNotBlank(values, "must not be blank");
+        sequential.isEachMatching(list, Pattern.compile("x"), "must be x");
+        sequential.isEachBetween(values, "a", "z", "must be a letter");
+        assertEquals(errors, sequential);
+    }
+
+    @Test
+    public void rollbackTo() {
+        Errors errors = new Errors();
+        errors.addError("kept");
+        int mark = errors.mark();
+        errors.addError("speculative");
+        errors.scope("value").isNotBlank("", "must not be blank");
+        List<String> snapshot = errors.getErrors();
+        errors.rollbackTo(mark);
+        assertEquals(listOf("kept"), errors.getErrors());
+        errors.addError("alternative");
+        assertEquals(listOf("kept", "alternative"), errors.getErrors());
+        assertEquals(listOf("kept", "speculative", "value: must not be blank"), snapshot);
+        errors.rollbackTo(0);
+        assertFalse(errors.hasErrors());
+        assertThrows(IllegalArgumentException.class, () -> errors.rollbackTo(1));
+        assertThrows(IllegalArgumentException.class, () -> errors.rollbackTo(-1));
+    }
+
+    @Test
+    public void rollbackTo_unsupported() {
+        assertThrows(IllegalStateException.class, () -> Errors.aggregating().mark());
+        assertThrows(IllegalStateException.class, () -> Errors.streaming().rollbackTo(0));
+    }
 }
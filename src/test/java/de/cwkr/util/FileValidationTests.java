@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static de.cwkr.util.Lists.listOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileValidationTests {
+    private static final RecordCheck NOT_BLANK = (record, errors) -> errors.isNotBlank(record, "must not be blank");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void validateLines() throws IOException {
+        Path file = write("a\n\nb\r\n \nc");
+        Errors errors = FileValidation.validateLines(file, NOT_BLANK);
+        assertEquals(listOf("line 2: must not be blank", "line 4: must not be blank"), errors.getErrors());
+    }
+
+    @Test
+    public void validateLinesRecords() throws IOException {
+        Path file = write("a;1\r\nb;2\nä;3\n");
+        List<String> records = Collections.synchronizedList(new ArrayList<>());
+        Errors errors = FileValidation.validateLines(file, (record, e) -> records.add(record.toString()));
+        assertEquals(listOf("a;1", "b;2", "ä;3"), records);
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    public void validateLinesSubSequence() throws IOException {
+        Path file = write("id=1\nid=x\n");
+        Errors errors = FileValidation.validateLines(file, (record, e) -> {
+            CharSequence value = record.subSequence(3, record.length());
+            e.isMatching(value, "\\d+", "invalid id {}", value);
+        });
+        assertEquals(listOf("line 2: invalid id x"), errors.getErrors());
+    }
+
+    @Test
+    public void validateLinesKeptSubSequences() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 100; i++) {
+            sb.append("id=").append(i).append('\n');
+        }
+        Path file = write(sb.toString());
+        List<CharSequence> values = Collections.synchronizedList(new ArrayList<>());
+        FileValidation.validateLines(file, (record, e) -> values.add(record.subSequence(3, record.length())), 64,
+                                     false);
+        assertEquals(100, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(String.valueOf(i + 1), values.get(i).toString());
+        }
+    }
+
+    @Test
+    public void validateLinesEmptyFile() throws IOException {
+        Path file = write("");
+        assertFalse(FileValidation.validateLines(file, NOT_BLANK).hasErrors());
+    }
+
+    @Test
+    public void validateLinesChunks() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            sb.append(i % 100 == 0 ? "" : "line " + i).append('\n');
+        }
+        Path file = write(sb.toString());
+        List<String> expected = new ArrayList<>();
+        for (int i = 100; i <= 1000; i += 100) {
+            expected.add("line " + i + ": must not be blank");
+        }
+        assertEquals(expected, FileValidation.validateLines(file, NOT_BLANK, 64, false).getErrors());
+        assertEquals(expected, FileValidation.validateLines(file, NOT_BLANK, 64, true).getErrors());
+        assertEquals(expected, FileValidation.validateLinesParallel(file, NOT_BLANK).getErrors());
+    }
+
+    @Test
+    public void validateLinesLongLine() throws IOException {
+        Path file = write("a\n" + String.join("", Collections.nCopies(100, "x")) + "\n\nb");
+        assertEquals(listOf("line 3: must not be blank"),
+                     FileValidation.validateLines(file, NOT_BLANK, 8, true).getErrors());
+    }
+
+    @Test
+    public void validateLinesMissingFile() {
+        assertThrows(NoSuchFileException.class,
+                     () -> FileValidation.validateLines(dir.resolve("missing.csv"), NOT_BLANK));
+        assertThrows(NoSuchFileException.class,
+                     () -> FileValidation.validateLinesParallel(dir.resolve("missing.csv"), NOT_BLANK));
+    }
+
+    @Test
+    public void validateLinesNull() {
+        assertThrows(NullPointerException.class, () -> FileValidation.validateLines(null, NOT_BLANK));
+        assertThrows(NullPointerException.class, () -> FileValidation.validateLines(dir, null));
+    }
+
+    private Path write(final String content) throws IOException {
+        return Files.write(dir.resolve("data.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import org.junit.jupiter.api.Test;
+
+public class IntListTests {
+    @Test
+    public void growable() {
+        IntList list = new IntList();
+        for (int i = 0; i < 100; i++) {
+            list.addInt(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(42, list.getInt(42));
+        assertEquals(42, list.setInt(42, -1));
+        assertEquals(-1, list.getInt(42));
+        list.add(0, 1000);
+        assertEquals(Integer.valueOf(1000), list.remove(0));
+        list.addInts(200, 201);
+        assertEquals(102, list.size());
+        assertEquals(101, list.indexOfInt(201));
+        assertTrue(list.containsInt(200));
+        assertFalse(list.containsInt(300));
+        assertFalse(list.isImmutable());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void boxedListContract() {
+        IntList list = Lists.intListOf(3, 1, 2, 1);
+        assertEquals(Arrays.asList(3, 1, 2, 1), list);
+        assertEquals(Arrays.asList(3, 1, 2, 1).hashCode(), list.hashCode());
+        assertEquals(1, list.indexOf(1));
+        assertEquals(3, list.lastIndexOf(1));
+        assertEquals(-1, list.indexOf("1"));
+        assertFalse(list.contains(null));
+        list.sort(null);
+        assertEquals(Arrays.asList(1, 1, 2, 3), list);
+        assertEquals(Arrays.asList(1, 2), list.subList(1, 3));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 1));
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.addInt(4);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void primitiveStream() {
+        IntList list = Lists.intListOf(1, 2, 3, 4);
+        assertEquals(10, list.intStream().sum());
+        assertEquals(10, list.stream().mapToInt(Integer::intValue).sum());
+        Spliterator.OfInt spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertEquals(4, spliterator.estimateSize());
+        assertArrayEquals(new int[] {1, 2, 3, 4}, list.toIntArray());
+    }
+
+    @Test
+    public void spliteratorLateBindingAndFailFast() {
+        IntList list = Lists.intListOf(1, 2);
+        Spliterator.OfInt spliterator = list.spliterator();
+        list.addInt(3);
+        IntList traversed = new IntList();
+        spliterator.forEachRemaining((int value) -> traversed.addInt(value));
+        assertEquals(Arrays.asList(1, 2, 3), traversed);
+
+        Spliterator.OfInt prefix = list.spliterator().trySplit();
+        assertEquals(1, prefix.estimateSize());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+        Spliterator.OfInt modified = list.spliterator();
+        assertThrows(ConcurrentModificationException.class,
+                     () -> modified.forEachRemaining((int value) -> list.addInt(value)));
+        assertThrows(ConcurrentModificationException.class, () -> list.intStream().forEach(list::addInt));
+    }
+
+    @Test
+    public void unmodifiable() {
+        int[] values = {1, 2, 3};
+        IntList list = Lists.unmodifiableIntListOf(values);
+        values[0] = 0;
+        assertEquals(1, list.getInt(0));
+        assertTrue(list.isImmutable());
+        assertTrue(list.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        assertThrows(UnsupportedOperationException.class, () -> list.addInt(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.setInt(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IntObjectMapTests {
+    @Test
+    public void putGetRemove() {
+        IntObjectMap<String> map = Maps.intObjectMap();
+        assertTrue(map.isEmpty());
+        assertFalse(map.isOrdered());
+        assertNull(map.put(1, "a"));
+        assertNull(map.put(Integer.MIN_VALUE, "min"));
+        assertEquals("a", map.put(1, "b"));
+        assertEquals("b", map.get(1));
+        assertEquals("min", map.get(Integer.MIN_VALUE));
+        assertNull(map.get(2));
+        assertEquals("x", map.getOrDefault(2, "x"));
+        assertTrue(map.containsKey(1));
+        assertEquals(2, map.size());
+        assertEquals("b", map.remove(1));
+        assertNull(map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void nullValues() {
+        IntObjectMap<String> map = Maps.intObjectMap();
+        map.put(7, null);
+        assertTrue(map.containsKey(7));
+        assertNull(map.getOrDefault(7, "x"));
+    }
+
+    @Test
+    public void orderedKeepsInsertionOrder() {
+        IntObjectMap<String> map = Maps.orderedIntObjectMap(4);
+        assertTrue(map.isOrdered());
+        for (int key = 10; key > 0; key--) {
+            map.put(key, Integer.toString(key));
+        }
+        map.remove(5);
+        map.remove(9);
+        map.put(5, "5");
+        assertArrayEquals(new int[] {10, 8, 7, 6, 4, 3, 2, 1, 5}, map.keys());
+        List<String> values = new ArrayList<>();
+        map.forEach((key, value) -> values.add(value));
+        assertEquals(9, values.size());
+        assertEquals("10", values.get(0));
+        assertEquals("5", values.get(8));
+        assertEquals("{10=10, 8=8, 7=7, 6=6, 4=4, 3=3, 2=2, 1=1, 5=5}", map.toString());
+    }
+
+    @Test
+    public void matchesReferenceMap() {
+        Random random = new Random(42);
+        IntObjectMap<Integer> unordered = Maps.intObjectMap();
+        IntObjectMap<Integer> ordered = Maps.orderedIntObjectMap();
+        Map<Integer, Integer> reference = new LinkedHashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) << 16;
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected, unordered.remove(key));
+                assertEquals(expected, ordered.remove(key));
+            } else {
+                assertEquals(reference.get(key), unordered.put(key, i));
+                assertEquals(reference.put(key, i), ordered.put(key, i));
+            }
+        }
+        assertEquals(reference.size(), unordered.size());
+        assertEquals(reference.size(), ordered.size());
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(reference.get(key << 16), unordered.get(key << 16));
+            assertEquals(reference.get(key << 16), ordered.get(key << 16));
+        }
+        assertArrayEquals(reference.keySet().stream().mapToInt(Integer::intValue).toArray(), ordered.keys());
+        assertEquals(ordered, unordered);
+        assertEquals(ordered.hashCode(), unordered.hashCode());
+        Map<Integer, Integer> visited = new HashMap<>();
+        unordered.forEach(visited::put);
+        assertEquals(reference, visited);
+    }
+
+    @Test
+    public void equality() {
+        IntObjectMap<String> map = Maps.intObjectMap();
+        IntObjectMap<String> other = Maps.orderedIntObjectMap();
+        map.put(1, "a");
+        other.put(1, "b");
+        assertNotEquals(map, other);
+        other.put(1, "a");
+        assertEquals(map, other);
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Maps.intObjectMap(-1));
+        assertThrows(NullPointerException.class, () -> Maps.intObjectMap().forEach(null));
+    }
+}
@@ -16,12 +16,21 @@
 package de.cwkr.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 public class ListsTests {
@@ -113,4 +122,120 @@ public class ListsTests {
             Lists.unmodifiableListOf(null, null);
         });
     }
+
+    @Test
+    public void unmodifiableListOfSizes() {
+        for (int size = 0; size < 5; size++) {
+            String[] elements = new String[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = "e" + i;
+            }
+            List<String> expected = Arrays.asList(elements);
+            List<String> list = Lists.unmodifiableListOf(elements);
+            assertEquals(expected, list);
+            assertEquals(list, expected);
+            assertEquals(expected.hashCode(), list.hashCode());
+            assertEquals(expected, Lists.unmodifiableListOf(new ArrayList<>(expected)));
+            assertEquals(expected, new ArrayList<>(list));
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, list.indexOf("e" + i));
+                assertEquals(i, list.lastIndexOf("e" + i));
+                assertTrue(list.contains("e" + i));
+            }
+            assertFalse(list.contains("x"));
+            assertFalse(list.contains(null));
+            final int index = size;
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+            assertThrows(UnsupportedOperationException.class, list::clear);
+            assertThrows(UnsupportedOperationException.class, () -> list.removeIf(e -> false));
+        }
+    }
+
+    @Test
+    public void unmodifiableListOfIndexOfCallsEqualsOnArgument() {
+        Object matchesAnyString = new Object() {
+            @Override
+            public boolean equals(Object obj) {
+                return obj instanceof String;
+            }
+
+            @Override
+            public int hashCode() {
+                return 0;
+            }
+        };
+        for (int size = 1; size < 5; size++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                expected.add("e" + i);
+            }
+            List<String> list = Lists.unmodifiableListOf(expected);
+            assertEquals(expected.indexOf(matchesAnyString), list.indexOf(matchesAnyString));
+            assertEquals(expected.lastIndexOf(matchesAnyString), list.lastIndexOf(matchesAnyString));
+            assertTrue(list.contains(matchesAnyString));
+        }
+    }
+
+    @Test
+    public void unmodifiableListOfCopies() {
+        String[] elements = {"one", "two", "three"};
+        List<String> list = Lists.unmodifiableListOf(elements);
+        elements[0] = "changed";
+        assertEquals("one", list.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "changed"));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(null));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertTrue(Lists.unmodifiableListOf(list) == list);
+    }
+
+    @Test
+    public void unmodifiableListOfCopiesSharedArray() {
+        Object[] shared = {"one", "two", "three"};
+        Collection<Object> collection = new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                return Arrays.asList(shared).iterator();
+            }
+
+            @Override
+            public int size() {
+                return shared.length;
+            }
+
+            @Override
+            public Object[] toArray() {
+                return shared;
+            }
+        };
+        List<Object> list = Lists.unmodifiableListOf(collection);
+        shared[0] = "changed";
+        assertEquals(Arrays.asList("one", "two", "three"), list);
+    }
+
+    @Test
+    public void unmodifiableListOfNullElement() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
+            Lists.unmodifiableListOf("one", "two", null);
+        });
+        assertEquals("The validated array contains null element at index: 2", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> {
+            Lists.unmodifiableListOf(Arrays.asList("one", null));
+        });
+    }
+
+    @Test
+    public void toUnmodifiableList() {
+        List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        List<Integer> sequential = expected.stream().collect(Lists.toUnmodifiableList());
+        List<Integer> parallel = expected.parallelStream().collect(Lists.toUnmodifiableList());
+        assertEquals(expected, sequential);
+        assertEquals(expected, parallel);
+        assertThrows(UnsupportedOperationException.class, () -> parallel.add(1));
+        assertTrue(Stream.empty().collect(Lists.toUnmodifiableList()).isEmpty());
+        assertEquals(Collections.singletonList("a"), Stream.of("a").collect(Lists.toUnmodifiableList()));
+        assertThrows(NullPointerException.class, () -> Stream.of("a", null).collect(Lists.toUnmodifiableList()));
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static de.cwkr.util.Lists.listOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class LogRateLimiterTests {
+    @Test
+    public void tryAcquire(@Mock Logger logger) {
+        when(logger.getName()).thenReturn("test");
+        AtomicLong clock = new AtomicLong();
+        LogRateLimiter limiter = new LogRateLimiter(2, Duration.ofSeconds(1), clock::get);
+        assertEquals(0, limiter.tryAcquire(logger));
+        assertEquals(0, limiter.tryAcquire(logger));
+        assertEquals(-1, limiter.tryAcquire(logger));
+        assertEquals(-1, limiter.tryAcquire(logger));
+        assertEquals(2, limiter.getSuppressedCount(logger));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(2, limiter.tryAcquire(logger));
+        assertEquals(0, limiter.tryAcquire(logger));
+        assertEquals(-1, limiter.tryAcquire(logger));
+    }
+
+    @Test
+    public void perLogger(@Mock Logger one, @Mock Logger two) {
+        when(one.getName()).thenReturn("one");
+        when(two.getName()).thenReturn("two");
+        LogRateLimiter limiter = new LogRateLimiter(1, Duration.ofHours(1));
+        assertEquals(0, limiter.tryAcquire(one));
+        assertEquals(0, limiter.tryAcquire(two));
+        assertEquals(-1, limiter.tryAcquire(one));
+    }
+
+    @Test
+    public void reportsSuppressedEvents(@Mock Logger logger) {
+        when(logger.getName()).thenReturn("test");
+        AtomicLong clock = new AtomicLong();
+        LogRateLimiter limiter = new LogRateLimiter(1, Duration.ofSeconds(1), clock::get);
+        Errors errors = new Errors(listOf("one"));
+        errors.logErrorsBatched(logger, limiter);
+        errors.logErrorsBatched(logger, limiter);
+        errors.logErrorsBatched(logger, limiter);
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        errors.logErrorsBatched(logger, limiter);
+        verify(logger).error("1 error:\n - one");
+        verify(logger).error("1 error (2 events suppressed):\n - one");
+    }
+
+    @Test
+    public void concurrentRollover(@Mock Logger logger) throws InterruptedException {
+        when(logger.getName()).thenReturn("test");
+        AtomicLong clock = new AtomicLong();
+        LogRateLimiter limiter = new LogRateLimiter(10, Duration.ofSeconds(1), clock::get);
+        limiter.tryAcquire(logger);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        int threads = 8;
+        AtomicLong permits = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for(int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for(int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquire(logger) >= 0) {
+                        permits.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(10, permits.get());
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRateLimiter(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new LogRateLimiter(1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import org.junit.jupiter.api.Test;
+
+public class LongListTests {
+    @Test
+    public void growable() {
+        LongList list = Lists.longListOf(1L, Long.MAX_VALUE);
+        list.addLong(3L);
+        list.add(4L);
+        assertEquals(Arrays.asList(1L, Long.MAX_VALUE, 3L, 4L), list);
+        assertEquals(Long.MAX_VALUE, list.getLong(1));
+        assertEquals(1, list.indexOf(Long.MAX_VALUE));
+        assertEquals(-1, list.indexOf(1));
+        assertArrayEquals(new long[] {1L, Long.MAX_VALUE, 3L, 4L}, list.toLongArray());
+        assertEquals(8L, list.longStream().filter(v -> v < 10).sum());
+    }
+
+    @Test
+    public void unmodifiable() {
+        LongList list = Lists.unmodifiableLongListOf(1L, 2L);
+        assertTrue(list.isImmutable());
+        assertThrows(UnsupportedOperationException.class, () -> list.addLong(3L));
+    }
+
+    @Test
+    public void spliteratorLateBindingAndFailFast() {
+        LongList list = Lists.longListOf(1L, 2L);
+        Spliterator.OfLong spliterator = list.spliterator();
+        list.addLong(3L);
+        assertEquals(3, spliterator.estimateSize());
+        assertThrows(ConcurrentModificationException.class, () -> list.longStream().forEach(list::addLong));
+    }
+}
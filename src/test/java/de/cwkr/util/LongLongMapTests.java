@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LongLongMapTests {
+    @Test
+    public void putGetRemove() {
+        LongLongMap map = Maps.longLongMap();
+        map.put(1L, 10L);
+        map.put(-1L, -10L);
+        map.put(1L, 11L);
+        assertEquals(2, map.size());
+        assertEquals(11L, map.getOrDefault(1L, 0L));
+        assertEquals(-1L, map.getOrDefault(2L, -1L));
+        assertTrue(map.remove(1L));
+        assertFalse(map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void addTo() {
+        LongLongMap map = Maps.orderedLongLongMap();
+        assertEquals(3L, map.addTo(42L, 3L));
+        assertEquals(5L, map.addTo(42L, 2L));
+        assertEquals(-1L, map.addTo(7L, -1L));
+        assertArrayEquals(new long[] {42L, 7L}, map.keys());
+        assertEquals("{42=5, 7=-1}", map.toString());
+    }
+
+    @Test
+    public void matchesReferenceMap() {
+        Random random = new Random(7);
+        LongLongMap unordered = Maps.longLongMap(16);
+        LongLongMap ordered = Maps.orderedLongLongMap();
+        Map<Long, Long> reference = new LinkedHashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(1_000) - 500L;
+            if (random.nextBoolean()) {
+                boolean expected = reference.remove(key) != null;
+                assertEquals(expected, unordered.remove(key));
+                assertEquals(expected, ordered.remove(key));
+            } else {
+                reference.put(key, (long) i);
+                unordered.put(key, i);
+                ordered.put(key, i);
+            }
+        }
+        assertEquals(reference.size(), unordered.size());
+        assertEquals(reference.size(), ordered.size());
+        assertArrayEquals(reference.keySet().stream().mapToLong(Long::longValue).toArray(), ordered.keys());
+        assertEquals(ordered, unordered);
+        assertEquals(ordered.hashCode(), unordered.hashCode());
+        Map<Long, Long> visited = new HashMap<>();
+        unordered.forEach(visited::put);
+        assertEquals(reference, visited);
+        unordered.put(Long.MAX_VALUE, 1L);
+        assertNotEquals(ordered, unordered);
+    }
+}
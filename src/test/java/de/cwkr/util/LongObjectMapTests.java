@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LongObjectMapTests {
+    @Test
+    public void putGetRemove() {
+        LongObjectMap<String> map = Maps.longObjectMap();
+        assertTrue(map.isEmpty());
+        assertFalse(map.isOrdered());
+        assertNull(map.put(1L, "a"));
+        assertNull(map.put(Long.MIN_VALUE, "min"));
+        assertEquals("a", map.put(1L, "b"));
+        assertEquals("b", map.get(1L));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertNull(map.get(2L));
+        assertEquals("x", map.getOrDefault(2L, "x"));
+        assertTrue(map.containsKey(1L));
+        assertEquals(2, map.size());
+        assertEquals("b", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void nullValues() {
+        LongObjectMap<String> map = Maps.longObjectMap();
+        map.put(7L, null);
+        assertTrue(map.containsKey(7L));
+        assertNull(map.getOrDefault(7L, "x"));
+    }
+
+    @Test
+    public void orderedKeepsInsertionOrder() {
+        LongObjectMap<String> map = Maps.orderedLongObjectMap(4);
+        assertTrue(map.isOrdered());
+        for (long key = 10; key > 0; key--) {
+            map.put(key, Long.toString(key));
+        }
+        map.remove(5L);
+        map.remove(9L);
+        map.put(5L, "5");
+        assertArrayEquals(new long[] {10, 8, 7, 6, 4, 3, 2, 1, 5}, map.keys());
+        List<String> values = new ArrayList<>();
+        map.forEach((key, value) -> values.add(value));
+        assertEquals(9, values.size());
+        assertEquals("10", values.get(0));
+        assertEquals("5", values.get(8));
+        assertEquals("{10=10, 8=8, 7=7, 6=6, 4=4, 3=3, 2=2, 1=1, 5=5}", map.toString());
+    }
+
+    @Test
+    public void matchesReferenceMap() {
+        Random random = new Random(42);
+        LongObjectMap<Integer> unordered = Maps.longObjectMap();
+        LongObjectMap<Integer> ordered = Maps.orderedLongObjectMap();
+        Map<Long, Integer> reference = new LinkedHashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) * 0x1_0000_0000L;
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected, unordered.remove(key));
+                assertEquals(expected, ordered.remove(key));
+            } else {
+                assertEquals(reference.get(key), unordered.put(key, i));
+                assertEquals(reference.put(key, i), ordered.put(key, i));
+            }
+        }
+        assertEquals(reference.size(), unordered.size());
+        assertEquals(reference.size(), ordered.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertEquals(reference.get(key << 32), unordered.get(key << 32));
+            assertEquals(reference.get(key << 32), ordered.get(key << 32));
+        }
+        assertArrayEquals(reference.keySet().stream().mapToLong(Long::longValue).toArray(), ordered.keys());
+        assertEquals(ordered, unordered);
+        assertEquals(ordered.hashCode(), unordered.hashCode());
+        Map<Long, Integer> visited = new HashMap<>();
+        unordered.forEach(visited::put);
+        assertEquals(reference, visited);
+    }
+
+    @Test
+    public void equality() {
+        LongObjectMap<String> map = Maps.longObjectMap();
+        LongObjectMap<String> other = Maps.orderedLongObjectMap();
+        map.put(1L, "a");
+        other.put(1L, "b");
+        assertNotEquals(map, other);
+        other.put(1L, "a");
+        assertEquals(map, other);
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Maps.longObjectMap(-1));
+        assertThrows(NullPointerException.class, () -> Maps.longObjectMap().forEach(null));
+    }
+}
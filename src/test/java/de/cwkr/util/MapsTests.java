@@ -16,13 +16,28 @@
 package de.cwkr.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 public class MapsTests {
@@ -216,4 +231,207 @@ public class MapsTests {
             map.put("k6", "six");
         });
     }
+
+    @Test
+    public void unmodifiableMapOfOrder() {
+        for (int size = 0; size < 40; size++) {
+            Integer[] kv = new Integer[size * 2];
+            Map<Integer, Integer> expected = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                kv[2 * i] = size - i;
+                kv[2 * i + 1] = i;
+                expected.put(size - i, i);
+            }
+            Map<Integer, Integer> map = Maps.unmodifiableMapOf(kv);
+            assertEquals(expected, map);
+            assertEquals(map, expected);
+            assertEquals(expected.hashCode(), map.hashCode());
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+            assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+            for (int i = 0; i < size; i++) {
+                assertTrue(map.containsKey(size - i));
+                assertTrue(map.containsValue(i));
+            }
+            assertFalse(map.containsKey(size + 1));
+            assertFalse(map.containsKey(null));
+            assertNull(map.get(-1));
+        }
+    }
+
+    @Test
+    public void unmodifiableMapOfDuplicates() {
+        Map<String, String> map = Maps.unmodifiableMapOf("k1", "one", "k2", "two", "k1", "three");
+        assertEquals(Arrays.asList("k1", "k2"), new ArrayList<>(map.keySet()));
+        assertEquals("three", map.get("k1"));
+        Map<String, String> large = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            large.put("k" + i, "v" + i);
+        }
+        Map<String, String> copy = Maps.unmodifiableMapOfEntries(large.entrySet().stream()
+            .flatMap(e -> Arrays.asList(e, Maps.entryOf(e.getKey(), e.getValue() + "!")).stream())
+            .toArray(Map.Entry[]::new));
+        large.replaceAll((k, v) -> v + "!");
+        assertEquals(large, copy);
+        assertEquals(new ArrayList<>(large.keySet()), new ArrayList<>(copy.keySet()));
+    }
+
+    @Test
+    public void unmodifiableMapOfNullValue() {
+        Map<String, String> map = Maps.unmodifiableMapOfEntries(Maps.entryOf("k1", null));
+        assertTrue(map.containsKey("k1"));
+        assertNull(map.get("k1"));
+        assertEquals("default", new HashMap<>(map).getOrDefault("k2", "default"));
+        assertNull(map.getOrDefault("k1", "default"));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            map.remove("k1");
+        });
+        assertThrows(UnsupportedOperationException.class, () -> {
+            map.entrySet().iterator().next().setValue("one");
+        });
+        assertThrows(UnsupportedOperationException.class, () -> {
+            map.putIfAbsent("k1", "one");
+        });
+    }
+
+    @Test
+    public void concurrentOrderedMap() {
+        ConcurrentMap<String, Integer> map = Maps.concurrentOrderedMap();
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertNull(map.put("c", 3));
+        assertEquals(1, map.put("a", 10));
+        assertEquals(2, map.remove("b"));
+        assertNull(map.put("b", 20));
+        assertEquals(Arrays.asList("a", "c", "b"), new ArrayList<>(map.keySet()));
+        assertEquals(10, map.putIfAbsent("a", 100));
+        assertFalse(map.replace("c", 4, 30));
+        assertTrue(map.replace("c", 3, 30));
+        assertNull(map.replace("d", 40));
+        assertFalse(map.remove("a", 1));
+        assertTrue(map.remove("a", 10));
+        assertEquals(Arrays.asList(30, 20), new ArrayList<>(map.values()));
+        Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        keys.remove();
+        assertEquals(Collections.singletonMap("b", 20), map);
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        assertThrows(NullPointerException.class, () -> map.put("e", null));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void concurrentOrderedMapSweepsTombstones() {
+        ConcurrentMap<Integer, Integer> map = Maps.concurrentOrderedMap();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+            if (i % 10 != 0) {
+                map.remove(i);
+            }
+        }
+        assertEquals(1_000, map.size());
+        int expected = 0;
+        for (Integer key : map.keySet()) {
+            assertEquals(expected, key);
+            expected += 10;
+        }
+    }
+
+    @Test
+    public void concurrentOrderedMapKeepsOrderOfEachWriter() throws InterruptedException {
+        int threads = 32;
+        int keysPerThread = 5_000;
+        ConcurrentMap<Long, Integer> map = Maps.concurrentOrderedMap();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            long thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < keysPerThread; i++) {
+                    map.put(thread << 32 | i, i);
+                    if (i % 3 == 0) {
+                        map.remove(thread << 32 | i);
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(threads * (keysPerThread - (keysPerThread + 2) / 3), map.size());
+        int[] last = new int[threads];
+        Arrays.fill(last, -1);
+        int count = 0;
+        for (Map.Entry<Long, Integer> entry : map.entrySet()) {
+            int thread = (int) (entry.getKey() >>> 32);
+            assertTrue(entry.getValue() > last[thread]);
+            assertTrue(entry.getValue() % 3 != 0);
+            last[thread] = entry.getValue();
+            count++;
+        }
+        assertEquals(map.size(), count);
+    }
+
+    @Test
+    public void concurrentOrderedMapOrdersObservedKeysFirst() throws InterruptedException {
+        int pairs = 10_000;
+        ConcurrentMap<Integer, Integer> map = Maps.concurrentOrderedMap();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.execute(() -> {
+            for (int i = 0; i < pairs; i++) {
+                map.put(2 * i, i);
+            }
+        });
+        executor.execute(() -> {
+            for (int i = 0; i < pairs; i++) {
+                while (!map.containsKey(2 * i)) {
+                    Thread.yield();
+                }
+                map.put(2 * i + 1, i);
+            }
+        });
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(2 * pairs, map.size());
+        boolean[] seen = new boolean[2 * pairs];
+        for (Integer key : map.keySet()) {
+            assertTrue(key % 2 == 0 || seen[key - 1]);
+            seen[key] = true;
+        }
+    }
+
+    @Test
+    public void toOrderedMap() {
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        IntStream.range(0, 100_000).forEach(i -> expected.put(i % 30_000, i));
+        Map<Integer, Integer> parallel = IntStream.range(0, 100_000)
+                                                  .boxed()
+                                                  .parallel()
+                                                  .collect(Maps.toOrderedMap(i -> i % 30_000, i -> i));
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(parallel.entrySet()));
+        Map<String, String> nullValues = Stream.of("a").collect(Maps.toOrderedMap(s -> s, s -> null));
+        assertTrue(nullValues.containsKey("a"));
+        assertThrows(NullPointerException.class, () -> Stream.of("a").collect(Maps.toOrderedMap(s -> null, s -> s)));
+    }
+
+    @Test
+    public void toUnmodifiableMap() {
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        IntStream.range(0, 100_000).forEach(i -> expected.put(i % 30_000, i));
+        Map<Integer, Integer> parallel = IntStream.range(0, 100_000)
+                                                  .boxed()
+                                                  .parallel()
+                                                  .collect(Maps.toUnmodifiableMap(i -> i % 30_000, i -> i));
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(parallel.entrySet()));
+        assertThrows(UnsupportedOperationException.class, () -> parallel.put(1, 1));
+        Map<String, String> nullValues = Stream.of("a").collect(Maps.toUnmodifiableMap(s -> s, s -> null));
+        assertTrue(nullValues.containsKey("a"));
+        assertNull(nullValues.get("a"));
+        assertThrows(NullPointerException.class, () -> Stream.of("a").collect(Maps.toUnmodifiableMap(s -> null, s -> s)));
+    }
 }
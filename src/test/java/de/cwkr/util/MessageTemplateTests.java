@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+public class MessageTemplateTests {
+    @Test
+    public void of() {
+        MessageTemplate template = MessageTemplate.of("{} must be between {} and {}");
+        assertEquals("{} must be between {} and {}", template.getPattern());
+        assertEquals(3, template.getPlaceholderCount());
+        assertEquals(0, MessageTemplate.of("must not be null").getPlaceholderCount());
+        assertThrows(NullPointerException.class, () -> MessageTemplate.of(null));
+    }
+
+    @Test
+    public void ofExpectedArgs() {
+        assertEquals(2, MessageTemplate.of("{} and {}", 2).getPlaceholderCount());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> MessageTemplate.of("{} and {}", 1));
+        assertEquals("pattern must contain 1 placeholders but contains 2: {} and {}", e.getMessage());
+    }
+
+    @Test
+    public void format() {
+        MessageTemplate template = MessageTemplate.of("{} must be between {} and {}");
+        assertEquals("age must be between 0 and 150", template.format("age", 0, 150));
+        assertEquals("age must be between 0 and {}", template.format("age", 0));
+        assertEquals("age must be between 0 and 150", template.format("age", 0, 150, "surplus"));
+        assertEquals("null must be between {} and {}", template.format((Object) null));
+    }
+
+    @Test
+    public void formatLikeMessageFormatter() {
+        String[] patterns = {"plain", "{}", "a{}b{}c", "\\{} escaped {}", "\\\\{} escape", "{", "}{", "{{}}", "\\"};
+        Object[] params = {"x", new int[] {1, 2}, new Object[] {"y", new long[] {3L}}};
+        for (String pattern : patterns) {
+            assertEquals(MessageFormatter.arrayFormat(pattern, params).getMessage(),
+                         MessageTemplate.of(pattern).format(params), pattern);
+        }
+    }
+
+    @Test
+    public void formatLikeMessageFormatter_argumentCount() {
+        Exception exception = new IllegalStateException("failed");
+        Object[][] paramSets = {
+            {}, {"a"}, {"a", "b"}, {"a", "b", "c", "d"}, {exception}, {"a", exception}, {"a", "b", exception},
+            {"a", "b", "c", exception}, {exception, "a"}, {null}, null
+        };
+        for (String pattern : new String[] {"plain", "{}", "{} and {}", "{} {} {}"}) {
+            for (Object[] params : paramSets) {
+                assertEquals(MessageFormatter.arrayFormat(pattern, params).getMessage(),
+                             MessageTemplate.of(pattern).format(params), pattern);
+            }
+        }
+    }
+
+    @Test
+    public void formatLikeMessageFormatter_escapes() {
+        String[] patterns = {
+            "a \\{} b", "a \\\\{} b", "x {} y \\{} z", "x {} y \\\\{} z", "\\{}{}", "\\\\{}\\{}{}", "{}\\{}",
+            "\\{} \\{} {}", "\\{}}", "\\"
+        };
+        Object[][] paramSets = {null, {}, {"p"}, {"p", "q"}, {"p", "q", "r"}, {"p", new IllegalStateException()}};
+        for (String pattern : patterns) {
+            MessageTemplate template = MessageTemplate.of(pattern);
+            for (Object[] params : paramSets) {
+                assertEquals(MessageFormatter.arrayFormat(pattern, params).getMessage(), template.format(params),
+                             pattern);
+            }
+        }
+        assertEquals("a \\{} b", MessageTemplate.of("a \\{} b").format());
+        assertEquals("x p y \\{} z", MessageTemplate.of("x {} y \\{} z").format("p"));
+        assertEquals(1, MessageTemplate.of("x {} y \\{} z").getPlaceholderCount());
+        assertEquals(2, MessageTemplate.of("x {} y \\\\{} z").getPlaceholderCount());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        assertEquals(MessageTemplate.of("{} is invalid"), MessageTemplate.of("{} is invalid"));
+        assertEquals(MessageTemplate.of("{} is invalid").hashCode(), MessageTemplate.of("{} is invalid").hashCode());
+    }
+}
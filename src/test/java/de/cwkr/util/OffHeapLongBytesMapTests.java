@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapLongBytesMapTests {
+    @Test
+    public void putGetRemove() {
+        try (OffHeapLongBytesMap map = new OffHeapLongBytesMap(32)) {
+            for (long key = 0; key < 50; key++) {
+                map.put(key, bytes("value " + key));
+            }
+            map.put(50L, new byte[0]);
+            assertEquals(51, map.size());
+            assertArrayEquals(bytes("value 7"), map.get(7L));
+            assertArrayEquals(new byte[0], map.get(50L));
+            assertNull(map.get(51L));
+            map.put(7L, bytes("seven"));
+            assertArrayEquals(bytes("seven"), map.get(7L));
+            assertTrue(map.remove(8L));
+            assertFalse(map.remove(8L));
+            assertFalse(map.containsKey(8L));
+            assertTrue(map.getGarbageBytes() > 0);
+            assertEquals(50, map.keys().length);
+        }
+    }
+
+    @Test
+    public void compact() {
+        try (OffHeapLongBytesMap map = new OffHeapLongBytesMap(64)) {
+            for (long key = 0; key < 100; key++) {
+                map.put(key % 10, bytes("value " + key));
+            }
+            long allocated = map.getAllocatedBytes();
+            map.compact();
+            assertTrue(map.getAllocatedBytes() < allocated);
+            assertEquals(10, map.size());
+            assertArrayEquals(bytes("value 93"), map.get(3L));
+        }
+    }
+
+    @Test
+    public void invalidAccess() {
+        OffHeapLongBytesMap map = Maps.offHeapLongBytesMap();
+        map.put(1L, bytes("a"));
+        map.clear();
+        assertTrue(map.isEmpty());
+        map.close();
+        assertTrue(map.isClosed());
+        assertThrows(IllegalStateException.class, () -> map.get(1L));
+        assertThrows(IllegalStateException.class, () -> map.put(1L, bytes("a")));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongBytesMap(16).put(1L, new byte[13]));
+    }
+
+    @Test
+    public void closeFreesSegments() {
+        long before = directMemoryUsed();
+        OffHeapLongBytesMap map = Maps.offHeapLongBytesMap(1 << 20);
+        for (long key = 0; key < 100; key++) {
+            map.put(key, new byte[100_000]);
+        }
+        assertEquals(10L << 20, map.getAllocatedBytes());
+        assertTrue(directMemoryUsed() >= before + (10L << 20));
+        map.compact();
+        assertEquals(10L << 20, map.getAllocatedBytes());
+        assertArrayEquals(new byte[100_000], map.get(99L));
+        map.close();
+        assertTrue(directMemoryUsed() <= before);
+        assertThrows(IllegalArgumentException.class, () -> Maps.offHeapLongBytesMap(4));
+    }
+
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        throw new IllegalStateException("direct buffer pool not found");
+    }
+
+    private static byte[] bytes(final String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
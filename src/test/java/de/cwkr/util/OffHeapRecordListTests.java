@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class OffHeapRecordListTests {
+    @Test
+    public void recordsAcrossSegments() {
+        try (OffHeapRecordList list = new OffHeapRecordList(12, 100)) {
+            for (int i = 0; i < 100; i++) {
+                byte[] record = new byte[12];
+                record[0] = (byte) i;
+                assertEquals(i, list.add(record));
+                list.putLong(i, 4, i * 1_000_000_000L);
+            }
+            assertEquals(100, list.size());
+            assertEquals(13 * 100, list.getAllocatedBytes());
+            assertEquals(42, list.get(42)[0]);
+            assertEquals(99_000_000_000L, list.getLong(99, 4));
+            list.putInt(7, 0, -1);
+            assertEquals(-1, list.getInt(7, 0));
+            byte[] dst = new byte[16];
+            list.get(8, dst);
+            assertEquals(8, dst[0]);
+            list.set(8, new byte[12]);
+            assertEquals(0L, list.getLong(8, 4));
+        }
+    }
+
+    @Test
+    public void factory() {
+        try (OffHeapRecordList list = Lists.offHeapRecordList(8)) {
+            assertTrue(list.isEmpty());
+            list.add(new byte[8]);
+            list.clear();
+            assertTrue(list.isEmpty());
+        }
+        try (OffHeapRecordList list = Lists.offHeapRecordList(8, 1024)) {
+            list.add(new byte[8]);
+            assertEquals(1024, list.getAllocatedBytes());
+        }
+        assertThrows(IllegalArgumentException.class, () -> Lists.offHeapRecordList(8, 4));
+    }
+
+    @Test
+    public void invalidAccess() {
+        OffHeapRecordList list = new OffHeapRecordList(8, 64);
+        list.add(new byte[8]);
+        assertThrows(IllegalArgumentException.class, () -> list.add(new byte[7]));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordList(65, 64));
+        list.close();
+        list.close();
+        assertTrue(list.isClosed());
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.add(new byte[8]));
+    }
+}
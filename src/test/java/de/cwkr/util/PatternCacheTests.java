@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+public class PatternCacheTests {
+    @Test
+    public void compile() {
+        PatternCache cache = new PatternCache(2);
+        Pattern pattern = cache.compile("[a-z]+");
+        assertSame(pattern, cache.compile("[a-z]+"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        PatternCache cache = new PatternCache(2);
+        Pattern one = cache.compile("one");
+        cache.compile("two");
+        cache.compile("one");
+        cache.compile("three");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(one, cache.compile("one"));
+        assertEquals(3, cache.getMissCount());
+        cache.compile("two");
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void clear() {
+        PatternCache cache = new PatternCache(2);
+        Pattern pattern = cache.compile("one");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+        assertNotSame(pattern, cache.compile("one"));
+    }
+
+    @Test
+    public void invalidRegex() {
+        PatternCache cache = new PatternCache(2);
+        assertThrows(PatternSyntaxException.class, () -> cache.compile("[a-"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PatternCache(0));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTests {
+    @Test
+    public void appendAndRemoveAcrossLevels() {
+        List<Integer> reference = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 40_000; i++) {
+            list = list.with(i);
+            reference.add(i);
+            if (i % 1_000 == 0) {
+                versions.add(list);
+            }
+        }
+        assertEquals(reference, list);
+        assertEquals(reference, new ArrayList<>(list));
+        assertEquals(33_333, list.get(33_333));
+        for (int i = 0; i < 40_000; i++) {
+            list = list.withoutLast();
+            reference.remove(reference.size() - 1);
+            if (i % 997 == 0 || list.size() < 40) {
+                assertEquals(reference, list);
+            }
+        }
+        assertTrue(list.isEmpty());
+        assertSame(PersistentList.empty(), list);
+        for (int v = 0; v < versions.size(); v++) {
+            assertEquals(v * 1_000 + 1, versions.get(v).size());
+            assertEquals(v * 1_000, versions.get(v).get(v * 1_000));
+        }
+    }
+
+    @Test
+    public void bulkBuildAcrossLevels() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 64, 65, 1_024, 1_056, 1_057, 33_824, 40_000}) {
+            List<Integer> reference = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                reference.add(i);
+            }
+            PersistentList<Integer> list = Lists.persistentListOf(reference);
+            assertEquals(reference, list);
+            assertEquals(reference, Lists.persistentListOf(reference.toArray(new Integer[0])));
+            PersistentList<Integer> appended = list.with(size).with(size + 1);
+            reference.add(size);
+            reference.add(size + 1);
+            assertEquals(reference, appended);
+            for (int i = 0; i < reference.size(); i++) {
+                appended = appended.withoutLast();
+            }
+            assertSame(PersistentList.empty(), appended);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Lists.persistentListOf("a", null));
+        assertThrows(IllegalArgumentException.class, () -> Lists.persistentListOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void replaceSharesStructure() {
+        PersistentList<String> list = Lists.persistentListOf(Arrays.asList("a", "b", "c"));
+        for (int i = 0; i < 100; i++) {
+            list = list.with("x" + i);
+        }
+        PersistentList<String> replaced = list.with(1, "B").with(101, "y");
+        assertEquals("b", list.get(1));
+        assertEquals("B", replaced.get(1));
+        assertEquals("x98", list.get(101));
+        assertEquals("y", replaced.get(101));
+        assertEquals(list.size(), replaced.size());
+        assertEquals(list.subList(2, 101), replaced.subList(2, 101));
+    }
+
+    @Test
+    public void invalidOperations() {
+        PersistentList<String> list = Lists.persistentListOf("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(NullPointerException.class, () -> list.with(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IllegalStateException.class, () -> PersistentList.empty().withoutLast());
+    }
+}
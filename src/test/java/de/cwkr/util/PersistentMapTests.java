@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Christian Winkler.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cwkr.util;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTests {
+    @Test
+    public void matchesReferenceMap() {
+        Random random = new Random(3);
+        Map<Integer, Integer> reference = new HashMap<>();
+        PersistentMap<Integer, Integer> map = Maps.persistentMapOf();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000) * 31;
+            if (random.nextInt(3) == 0) {
+                reference.remove(key);
+                map = map.without(key);
+            } else {
+                reference.put(key, i);
+                map = map.with(key, i);
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        assertEquals(reference, map);
+        assertEquals(map, reference);
+        assertEquals(reference.hashCode(), map.hashCode());
+        assertEquals(reference, Maps.persistentMapOf(reference));
+        assertThrows(IllegalArgumentException.class, () -> Maps.persistentMapOf(singletonMap("a", null)));
+        assertThrows(IllegalArgumentException.class, () -> Maps.persistentMapOf(singletonMap(null, "a")));
+    }
+
+    @Test
+    public void collidingKeys() {
+        PersistentMap<Colliding, String> map = PersistentMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.with(new Colliding(i, i % 2), "v" + i);
+        }
+        map = map.with(new Colliding(3, 1), "three");
+        assertEquals(10, map.size());
+        assertEquals("three", map.get(new Colliding(3, 1)));
+        for (int i = 0; i < 10; i += 2) {
+            map = map.without(new Colliding(i, 0));
+        }
+        assertEquals(5, map.size());
+        assertNull(map.get(new Colliding(2, 0)));
+        assertEquals("v9", map.get(new Colliding(9, 1)));
+        int count = 0;
+        for (Map.Entry<Colliding, String> entry : map.entrySet()) {
+            assertEquals(1, entry.getKey().hash);
+            count++;
+        }
+        assertEquals(5, count);
+        map = map.with(new Colliding(10, 33), "v10").without(new Colliding(1, 1));
+        assertEquals(5, map.size());
+        assertEquals("v10", map.get(new Colliding(10, 33)));
+        assertEquals("three", map.get(new Colliding(3, 1)));
+    }
+
+    @Test
+    public void versionsAreIndependent() {
+        PersistentMap<String, Integer> v1 = PersistentMap.<String, Integer>empty().with("a", 1).with("b", 2);
+        PersistentMap<String, Integer> v2 = v1.with("a", 10).without("b");
+        assertEquals(1, v1.get("a"));
+        assertTrue(v1.containsKey("b"));
+        assertEquals(10, v2.get("a"));
+        assertFalse(v2.containsKey("b"));
+        assertSame(v2, v2.without("missing"));
+        assertSame(PersistentMap.empty(), v2.without("a"));
+    }
+
+    @Test
+    public void invalidOperations() {
+        PersistentMap<String, String> map = Maps.persistentMapOf();
+        assertThrows(UnsupportedOperationException.class, () -> map.put("a", "b"));
+        assertThrows(NullPointerException.class, () -> map.with(null, "b"));
+        assertThrows(NullPointerException.class, () -> map.with("a", null));
+        assertNull(map.get(null));
+    }
+
+    private static final class Colliding {
+        private final int id;
+        private final int hash;
+
+        private Colliding(final int id, final int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Colliding && ((Colliding) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -15,13 +15,25 @@
  */
 package de.cwkr.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 public class SetsTests {
@@ -107,4 +119,101 @@ public class SetsTests {
             Sets.unmodifiableSetOf(null, null);
         });
     }
+
+    @Test
+    public void unmodifiableSetOfOrder() {
+        for (int size = 0; size < 40; size++) {
+            List<Integer> elements = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                elements.add(size - i);
+                elements.add(i % 3);
+            }
+            Set<Integer> expected = new LinkedHashSet<>(elements);
+            Set<Integer> set = Sets.unmodifiableSetOf(elements);
+            assertEquals(expected, set);
+            assertEquals(set, expected);
+            assertEquals(expected.hashCode(), set.hashCode());
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+            for (Integer element : elements) {
+                assertTrue(set.contains(element));
+            }
+            assertFalse(set.contains(size + 1));
+            assertFalse(set.contains(null));
+        }
+    }
+
+    @Test
+    public void unmodifiableSetOfKeepsSharedArray() {
+        Object[] shared = {"one", "two", "one", "three"};
+        Collection<Object> collection = new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                return Arrays.asList(shared).iterator();
+            }
+
+            @Override
+            public int size() {
+                return shared.length;
+            }
+
+            @Override
+            public Object[] toArray() {
+                return shared;
+            }
+        };
+        Set<Object> set = Sets.unmodifiableSetOf(collection);
+        assertArrayEquals(new Object[] {"one", "two", "one", "three"}, shared);
+        shared[1] = "changed";
+        assertEquals(Arrays.asList("one", "two", "three"), new ArrayList<>(set));
+    }
+
+    @Test
+    public void unmodifiableSetOfImmutable() {
+        String[] elements = {"one", "two", "one", "three"};
+        Set<String> set = Sets.unmodifiableSetOf(elements);
+        elements[1] = "changed";
+        assertEquals(Arrays.asList("one", "two", "three"), new ArrayList<>(set));
+        assertTrue(Sets.unmodifiableSetOf(set) == set);
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(e -> false));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(Collections.emptySet()));
+        assertThrows(IllegalArgumentException.class, () -> {
+            Sets.unmodifiableSetOf(Arrays.asList("one", null));
+        });
+    }
+
+    @Test
+    public void concurrentOrderedSet() {
+        Set<String> set = Sets.concurrentOrderedSet();
+        assertTrue(set.add("b"));
+        assertTrue(set.add("a"));
+        assertFalse(set.add("b"));
+        assertTrue(set.add("c"));
+        assertTrue(set.remove("a"));
+        assertTrue(set.add("a"));
+        assertEquals(Arrays.asList("b", "c", "a"), new ArrayList<>(set));
+        assertThrows(NullPointerException.class, () -> set.add(null));
+    }
+
+    @Test
+    public void toOrderedSet() {
+        List<Integer> values = IntStream.range(0, 100_000).map(i -> (i * 7) % 50_000).boxed().collect(Collectors.toList());
+        Set<Integer> expected = new LinkedHashSet<>(values);
+        Set<Integer> parallel = values.parallelStream().collect(Sets.toOrderedSet());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(parallel));
+        parallel.add(-1);
+        assertTrue(parallel.contains(-1));
+        assertThrows(NullPointerException.class, () -> Stream.of("a", null).collect(Sets.toOrderedSet()));
+    }
+
+    @Test
+    public void toUnmodifiableSet() {
+        List<Integer> values = IntStream.range(0, 100_000).map(i -> (i * 7) % 50_000).boxed().collect(Collectors.toList());
+        Set<Integer> expected = new LinkedHashSet<>(values);
+        Set<Integer> parallel = values.parallelStream().collect(Sets.toUnmodifiableSet());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(parallel));
+        assertEquals(expected, parallel);
+        assertThrows(UnsupportedOperationException.class, () -> parallel.add(-1));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(Stream.of("b", "a", "b").collect(Sets.toUnmodifiableSet())));
+    }
 }